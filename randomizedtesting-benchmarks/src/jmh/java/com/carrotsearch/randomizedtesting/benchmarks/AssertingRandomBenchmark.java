@@ -0,0 +1,56 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.internals.AllocationStackCapture;
+import com.carrotsearch.randomizedtesting.jupiter.internals.AssertingRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The per-call overhead of {@link AssertingRandom} for each sampling setting ({@code
+ * tests.random.asserting.sampling}). {@code -1} is the plain, unchecked generator; {@code 0}
+ * checks every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssertingRandomBenchmark {
+  @Param({"-1", "0", "16", "1024"})
+  public int sampling;
+
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random = RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(0xdeadbeefL);
+    if (sampling >= 0) {
+      random =
+          new AssertingRandom(
+              Thread.currentThread(), random, AllocationStackCapture.TRUNCATED, sampling);
+    }
+  }
+
+  @Benchmark
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  @Benchmark
+  public int nextIntBounded() {
+    return random.nextInt(1000);
+  }
+}
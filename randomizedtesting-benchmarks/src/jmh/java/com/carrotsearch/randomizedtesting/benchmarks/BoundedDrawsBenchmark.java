@@ -0,0 +1,104 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Bounded draws from {@link RandomInstanceFactory#XOROSHIRO_128_PLUS} (multiply-shift) compared
+ * against the modulo-based rejection loops previously used (inherited from {@link Random}), over a
+ * mix of power-of-two and other bounds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundedDrawsBenchmark {
+  private static final int[] INT_BOUNDS = {
+    2, 3, 10, 16, 100, 256, 1000, 1 << 16, 100_000, 1 << 30, Integer.MAX_VALUE / 3 * 2
+  };
+
+  private static final long[] LONG_BOUNDS = {
+    2, 3, 10, 16, 1000, 1L << 32, 1_000_000_007L, 1L << 40, Long.MAX_VALUE / 3 * 2
+  };
+
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random = RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(0xdeadbeefL);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(11)
+  public void nextIntMultiplyShift(Blackhole bh) {
+    for (int bound : INT_BOUNDS) {
+      bh.consume(random.nextInt(bound));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(11)
+  public void nextIntModulo(Blackhole bh) {
+    for (int bound : INT_BOUNDS) {
+      bh.consume(moduloNextInt(random, bound));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(9)
+  public void nextLongMultiplyShift(Blackhole bh) {
+    for (long bound : LONG_BOUNDS) {
+      bh.consume(RandomNumbers.nextLong(random, bound));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(9)
+  public void nextLongModulo(Blackhole bh) {
+    for (long bound : LONG_BOUNDS) {
+      bh.consume(moduloNextLong(random, bound));
+    }
+  }
+
+  /** The algorithm of {@link Random#nextInt(int)}, on top of the generator's high bits. */
+  private static int moduloNextInt(Random rnd, int bound) {
+    int r = (int) (rnd.nextLong() >>> 33);
+    int m = bound - 1;
+    if ((bound & m) == 0) {
+      r = (int) ((bound * (long) r) >> 31);
+    } else {
+      for (int u = r; u - (r = u % bound) + m < 0; u = (int) (rnd.nextLong() >>> 33)) {}
+    }
+    return r;
+  }
+
+  /** The previous implementation of {@link RandomNumbers#nextLong(Random, long)}. */
+  private static long moduloNextLong(Random rnd, long n) {
+    long value = rnd.nextLong();
+    long range = n - 1;
+    if ((n & range) == 0L) {
+      value &= range;
+    } else {
+      for (long u = value >>> 1; u + range - (value = u % n) < 0L; ) {
+        u = rnd.nextLong() >>> 1;
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,63 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.internals.AssertingRandom;
+import com.carrotsearch.randomizedtesting.jupiter.internals.BufferedRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Single draws from an asserting random, with and without {@link BufferedRandom}. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BufferedRandomBenchmark {
+  @Param({"true", "false"})
+  public boolean buffered;
+
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random =
+        new AssertingRandom(
+            Thread.currentThread(),
+            RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(0xdeadbeefL));
+    if (buffered) {
+      random = new BufferedRandom(random);
+    }
+  }
+
+  @Benchmark
+  public int nextInt() {
+    return random.nextInt();
+  }
+
+  @Benchmark
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  @Benchmark
+  public int nextIntBounded() {
+    return random.nextInt(1000);
+  }
+
+  @Benchmark
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+}
@@ -0,0 +1,129 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.RepeatExecutionTestEngine;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The framework overhead per executed test: {@link EmptyTests} (with {@link
+ * #TESTS_PER_ITERATION} trivial tests, half of them parameterized test invocations) is executed
+ * {@link #ITERATIONS} times by {@link RepeatExecutionTestEngine} and the time is reported per
+ * test. This includes discovery, JUnit's own overhead, randomized context derivation and the
+ * injection of {@link Random} instances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PerTestOverheadBenchmark {
+  private static final int ITERATIONS = 50;
+  private static final int TESTS_PER_ITERATION = 16;
+
+  @Param({"false", "true"})
+  public boolean asserting;
+
+  private Launcher launcher;
+  private LauncherDiscoveryRequest request;
+
+  @Setup
+  public void setup() {
+    launcher = LauncherFactory.create();
+    request =
+        LauncherDiscoveryRequestBuilder.request()
+            .selectors(DiscoverySelectors.selectClass(EmptyTests.class))
+            .filters(EngineFilter.includeEngines(RepeatExecutionTestEngine.ENGINE_ID))
+            .configurationParameter(SysProps.TESTS_ITERS.propertyKey, String.valueOf(ITERATIONS))
+            .configurationParameter(
+                SysProps.TESTS_RANDOM_ASSERTING.propertyKey, String.valueOf(asserting))
+            .build();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITERATIONS * TESTS_PER_ITERATION)
+  public long runTests() {
+    var summary = new SummaryGeneratingListener();
+    launcher.execute(request, summary);
+    var result = summary.getSummary();
+    if (result.getTotalFailureCount() > 0
+        || result.getTestsSucceededCount() != ITERATIONS * TESTS_PER_ITERATION) {
+      throw new AssertionError("Unexpected test results: " + result.getTestsSucceededCount());
+    }
+    return result.getTestsSucceededCount();
+  }
+
+  /** Trivial tests, each consuming a single random value. */
+  @Randomized
+  public static class EmptyTests {
+    @Test
+    public void test1(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test2(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test3(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test4(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test5(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test6(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test7(Random random) {
+      random.nextInt();
+    }
+
+    @Test
+    public void test8(Random random) {
+      random.nextInt();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    public void parameterized(int value, Random random) {
+      random.nextInt(value);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomArrays;
+import com.carrotsearch.randomizedtesting.jupiter.internals.AssertingRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link RandomArrays} bulk fills compared against per-element loops. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomArraysBenchmark {
+  @Param({"true", "false"})
+  public boolean asserting;
+
+  @Param({"16384"})
+  public int length;
+
+  private Random random;
+  private long[] longs;
+  private int[] ints;
+  private double[] doubles;
+
+  @Setup
+  public void setup() {
+    random = RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(0xdeadbeefL);
+    if (asserting) {
+      random = new AssertingRandom(Thread.currentThread(), random);
+    }
+    longs = new long[length];
+    ints = new int[length];
+    doubles = new double[length];
+  }
+
+  @Benchmark
+  public long[] longsPerElement() {
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = random.nextLong();
+    }
+    return longs;
+  }
+
+  @Benchmark
+  public long[] longsBulk() {
+    RandomArrays.fill(random, longs);
+    return longs;
+  }
+
+  @Benchmark
+  public double[] doublesPerElement() {
+    for (int i = 0; i < doubles.length; i++) {
+      doubles[i] = random.nextDouble();
+    }
+    return doubles;
+  }
+
+  @Benchmark
+  public double[] doublesBulk() {
+    RandomArrays.fill(random, doubles);
+    return doubles;
+  }
+
+  @Benchmark
+  public int[] intsInRangePerElement() {
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = 10 + random.nextInt(1000);
+    }
+    return ints;
+  }
+
+  @Benchmark
+  public int[] intsInRangeBulk() {
+    RandomArrays.fillInRange(random, ints, 10, 1009);
+    return ints;
+  }
+}
@@ -0,0 +1,82 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the basic draws for each {@link RandomInstanceFactory}.
+ *
+ * <p>The {@link #main(String[])} method runs the benchmark for every {@link
+ * RandomInstanceProvider} discovered on the class path (built-ins and custom ones), instead of the
+ * built-in names listed in {@link #factory}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomInstanceFactoryBenchmark {
+  @Param({
+    "jdk",
+    "xoroshiro_128_plus",
+    "l64x128_mix",
+    "xoshiro_256_plus_plus",
+    "splittable",
+    "philox_4x32_10"
+  })
+  public String factory;
+
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random = RandomInstanceProvider.forName(factory).get().apply(0xdeadbeefL);
+  }
+
+  @Benchmark
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  @Benchmark
+  public int nextInt() {
+    return random.nextInt();
+  }
+
+  @Benchmark
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    var factories =
+        RandomInstanceProvider.available().stream()
+            .map(p -> p.name().toLowerCase(Locale.ROOT))
+            .toArray(String[]::new);
+
+    new Runner(
+            new OptionsBuilder()
+                .include(RandomInstanceFactoryBenchmark.class.getName())
+                .param("factory", factories)
+                .build())
+        .run();
+  }
+}
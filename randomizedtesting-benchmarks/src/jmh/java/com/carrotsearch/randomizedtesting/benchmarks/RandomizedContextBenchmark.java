@@ -0,0 +1,99 @@
+package com.carrotsearch.randomizedtesting.benchmarks;
+
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.RepeatExecutionTestEngine;
+import com.carrotsearch.randomizedtesting.jupiter.Seed;
+import com.carrotsearch.randomizedtesting.jupiter.SeedChain;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Seed chain accessors of a {@link RandomizedContext} at the bottom of a deep hierarchy of contexts
+ * (as created by nested test classes and dynamic tests). The context is captured from {@link
+ * CaptureContext}, nested {@link #depth} levels of {@link RandomizedContext#withSplitContext}
+ * below the test's own context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomizedContextBenchmark {
+  @Param({"1", "8", "32"})
+  public int depth;
+
+  private RandomizedContext context;
+
+  @Setup
+  public void setup() {
+    CaptureContext.depth = depth;
+    var summary = new SummaryGeneratingListener();
+    LauncherFactory.create()
+        .execute(
+            LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectClass(CaptureContext.class))
+                .filters(EngineFilter.includeEngines(RepeatExecutionTestEngine.ENGINE_ID))
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "1")
+                .build(),
+            summary);
+    if (summary.getSummary().getTestsSucceededCount() != 1) {
+      throw new AssertionError("Context capture failed: " + summary.getSummary().getFailures());
+    }
+    context = CaptureContext.captured;
+  }
+
+  @Benchmark
+  public SeedChain getSeedChain() {
+    return context.getSeedChain();
+  }
+
+  @Benchmark
+  public Seed getRootSeed() {
+    return context.getRootSeed();
+  }
+
+  @Benchmark
+  public Random splitRandom() {
+    return context.splitRandom();
+  }
+
+  /** Captures the context nested {@link #depth} split contexts below the test's context. */
+  @Randomized
+  public static class CaptureContext {
+    static int depth;
+    static RandomizedContext captured;
+
+    @Test
+    public void capture() {
+      nest(depth);
+    }
+
+    private static void nest(int levels) {
+      if (levels == 0) {
+        captured = RandomizedContext.current();
+      } else {
+        RandomizedContext.current().withSplitContext(() -> nest(levels - 1)).run();
+      }
+    }
+  }
+}
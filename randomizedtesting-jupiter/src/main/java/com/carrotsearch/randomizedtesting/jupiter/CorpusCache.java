@@ -0,0 +1,66 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * A persistent (on-disk) cache of large randomized corpora. A {@link CorpusCache} can be injected
+ * as a parameter into test methods and hooks of {@link Randomized} tests.
+ *
+ * <p>A corpus is generated once for the {@link RandomizedContext#getRootSeed() root seed}, the
+ * random factory, the generator id and version and the parameters, and written to the cache
+ * directory ({@link SysProps#TESTS_CORPUS_DIR}). Later runs with the same seed (in the same or
+ * another JVM) verify the file's checksum and map it read-only instead of generating it again.
+ * Least recently used corpora are deleted when the directory exceeds {@link
+ * SysProps#TESTS_CORPUS_MAX_SIZE}.
+ */
+public interface CorpusCache {
+  /** Writes a corpus to the given stream, using only the given {@link Random}. */
+  @FunctionalInterface
+  interface CorpusGenerator {
+    void generate(Random random, OutputStream output) throws IOException;
+  }
+
+  /** A cached corpus file. */
+  interface Corpus {
+    /**
+     * @return Returns the path of the corpus file. The file must not be modified.
+     */
+    Path path();
+
+    /**
+     * @return Returns the size of the corpus, in bytes.
+     */
+    long size();
+
+    /**
+     * @return Maps the given region of the corpus read-only.
+     */
+    MappedByteBuffer map(long position, long length) throws IOException;
+
+    /**
+     * @return Maps the whole corpus read-only. Corpora over 2GB must be mapped in regions.
+     */
+    default MappedByteBuffer map() throws IOException {
+      return map(0, size());
+    }
+  }
+
+  /**
+   * Returns the cached corpus for the given generator and parameters, generating it if it does not
+   * exist (or is damaged).
+   *
+   * @param generatorId An identifier of the generator. Only letters, digits, {@code '-'}, {@code
+   *     '_'} and {@code '.'} are allowed.
+   * @param version The generator's version. Change it whenever the generator's output changes.
+   * @param parameters Generator parameters with a stable {@link Object#toString()} (a record, a
+   *     string or a list of values, for example).
+   * @param generator Writes the corpus.
+   */
+  Corpus computeIfAbsent(
+      String generatorId, int version, Object parameters, CorpusGenerator generator)
+      throws IOException;
+}
@@ -15,7 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
  * scope ends.
  *
  * <p>Only functional in sequential (same-thread) execution mode. Emits a warning and skips
- * detection if tests run concurrently.
+ * detection if tests (or iterations of {@link SysProps#TESTS_ITERS}) run concurrently.
  */
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
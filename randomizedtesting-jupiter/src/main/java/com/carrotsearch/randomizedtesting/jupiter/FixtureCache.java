@@ -0,0 +1,37 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache of (expensive) randomized fixtures, shared by all tests of a run (the same root seed). A
+ * {@link FixtureCache} can be injected as a parameter into test methods and hooks of {@link
+ * Randomized} tests.
+ *
+ * <p>A fixture is identified by its generator id and parameters. The {@link Random} passed to the
+ * generator is seeded from the {@link RandomizedContext#getRootSeed() root seed}, the generator id
+ * and the parameters only, so a fixture is identical regardless of which test builds it first (and
+ * whether it was evicted and rebuilt in the meantime). Fixtures must not be modified by tests.
+ *
+ * <p>Recently used fixtures are kept within a byte budget ({@link SysProps#TESTS_FIXTURES_BUDGET}).
+ * Fixtures over the budget are only softly referenced and may be rebuilt after the garbage
+ * collector clears them.
+ */
+public interface FixtureCache {
+  /**
+   * Returns the fixture for the given generator id and parameters, building it (and estimating its
+   * size) if it is not cached.
+   *
+   * @param generatorId An identifier of the generator (and its version).
+   * @param parameters Generator parameters, a value with {@link Object#equals(Object)} and a stable
+   *     {@link Object#toString()} (a record, a string or a list of values, for example).
+   * @param generator Builds the fixture from the given random.
+   * @param sizeInBytes An estimate of the fixture's memory footprint.
+   */
+  <T> T computeIfAbsent(
+      String generatorId,
+      Object parameters,
+      Function<Random, ? extends T> generator,
+      ToLongFunction<? super T> sizeInBytes);
+}
@@ -0,0 +1,106 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * An {@link EngineExecutionListener} of a single iteration of {@link RepeatExecutionTestEngine}.
+ * Delegates all events and collects the failures of the iteration's tests and containers.
+ */
+final class IterationListener implements EngineExecutionListener {
+  /**
+   * A failure of a test or container.
+   *
+   * @param testId The unique id segments of the failed descriptor, relative to its iteration (the
+   *     same in all iterations).
+   * @param throwable The failure's exception or {@code null} if it is not known.
+   * @param seedChain The seed chain of the failed test or {@code null} if it is not known.
+   */
+  record Failure(List<UniqueId.Segment> testId, Throwable throwable, SeedChain seedChain) {
+    /**
+     * @return Returns the class name of the failure's exception or {@code null}.
+     */
+    String exceptionType() {
+      return throwable == null ? null : throwable.getClass().getName();
+    }
+  }
+
+  private final EngineExecutionListener delegate;
+  private final int iterationPrefixLength;
+  private final List<Failure> failures = new ArrayList<>();
+
+  IterationListener(EngineExecutionListener delegate, TestDescriptor iterationDescriptor) {
+    this.delegate = delegate;
+    this.iterationPrefixLength = iterationDescriptor.getUniqueId().getSegments().size();
+  }
+
+  /**
+   * @return Returns the failures collected so far.
+   */
+  synchronized List<Failure> failures() {
+    return List.copyOf(failures);
+  }
+
+  @Override
+  public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+    delegate.dynamicTestRegistered(testDescriptor);
+  }
+
+  @Override
+  public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+    delegate.executionSkipped(testDescriptor, reason);
+  }
+
+  @Override
+  public void executionStarted(TestDescriptor testDescriptor) {
+    delegate.executionStarted(testDescriptor);
+  }
+
+  @Override
+  public void executionFinished(
+      TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+    if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+      var segments = testDescriptor.getUniqueId().getSegments();
+      var throwable = testExecutionResult.getThrowable().orElse(null);
+      synchronized (this) {
+        failures.add(
+            new Failure(
+                List.copyOf(segments.subList(iterationPrefixLength, segments.size())),
+                throwable,
+                seedChainOf(throwable)));
+      }
+    }
+    delegate.executionFinished(testDescriptor, testExecutionResult);
+  }
+
+  @Override
+  public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+    delegate.reportingEntryPublished(testDescriptor, entry);
+  }
+
+  @Override
+  public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+    delegate.fileEntryPublished(testDescriptor, file);
+  }
+
+  /**
+   * @return Returns the seed chain added to the stack trace of randomized test failures or {@code
+   *     null}.
+   */
+  private static SeedChain seedChainOf(Throwable throwable) {
+    if (throwable != null) {
+      for (var frame : throwable.getStackTrace()) {
+        if (Constants.AUGMENTED_SEED_CLASS.equals(frame.getClassName())) {
+          return SeedChain.parse(frame.getFileName());
+        }
+      }
+    }
+    return null;
+  }
+}
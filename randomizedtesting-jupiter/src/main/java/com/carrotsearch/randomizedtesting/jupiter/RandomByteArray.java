@@ -0,0 +1,28 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+
+/**
+ * Injects random bytes as a {@code byte[]} or {@link ByteBuffer} parameter of a {@link Randomized}
+ * test method or hook, drawn from the context's parameter random (see {@link RandomInt}).
+ *
+ * @see com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes
+ */
+@Target({ElementType.PARAMETER})
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RandomByteArray {
+  /** The number of bytes. */
+  int value();
+
+  /**
+   * If {@code true}, {@link ByteBuffer} parameters are direct (off-heap) buffers, filled in place
+   * with no intermediate array. Heap buffers wrap a random array otherwise.
+   */
+  boolean direct() default false;
+}
@@ -1,15 +1,19 @@
 package com.carrotsearch.randomizedtesting.jupiter;
 
+import com.carrotsearch.randomizedtesting.jupiter.generators.PhiloxRandom;
+import com.carrotsearch.randomizedtesting.jupiter.internals.RandomGeneratorAdapter;
 import com.carrotsearch.randomizedtesting.jupiter.internals.Xoroshiro128PlusRandom;
-import java.util.Locale;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.LongFunction;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.random.RandomGeneratorFactory;
 
-/** The supplier of {@link Random} instances. */
-public enum RandomInstanceFactory implements Supplier<LongFunction<Random>> {
+/**
+ * The built-in suppliers of {@link Random} instances.
+ *
+ * @see RandomInstanceProvider
+ */
+public enum RandomInstanceFactory implements RandomInstanceProvider {
   /** The default, built-in {@link Random}. There may be some synchronization overhead. */
   JDK,
 
@@ -18,23 +22,44 @@ public enum RandomInstanceFactory implements Supplier<LongFunction<Random>> {
    *
    * @see "https://prng.di.unimi.it/"
    */
-  XOROSHIRO_128_PLUS;
+  XOROSHIRO_128_PLUS,
 
+  /**
+   * JDK's {@code L64X128MixRandom} (from the LXM family), adapted to {@link Random}. Not
+   * synchronized anywhere.
+   *
+   * @see java.util.random
+   */
+  L64X128_MIX,
+
+  /**
+   * JDK's {@code Xoshiro256PlusPlus}, adapted to {@link Random}. Not synchronized anywhere.
+   *
+   * @see java.util.random
+   */
+  XOSHIRO_256_PLUS_PLUS,
+
+  /** JDK's {@link SplittableRandom}, adapted to {@link Random}. Not synchronized anywhere. */
+  SPLITTABLE,
+
+  /**
+   * Counter-based {@link PhiloxRandom} (Philox4x32-10). Not synchronized anywhere. Supports random
+   * access and parallel fills of its sequence.
+   */
+  PHILOX_4X32_10;
+
+  /**
+   * @return Returns the built-in factory with the given (case-insensitive) name.
+   * @throws IllegalArgumentException If no built-in factory has this name.
+   * @deprecated Use {@link RandomInstanceProvider#forName(String)}, which also resolves discovered
+   *     providers.
+   */
+  @Deprecated
   public static RandomInstanceFactory parse(String v) {
-    try {
-      return RandomInstanceFactory.valueOf(v.toUpperCase(Locale.ROOT));
-    } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException(
-          "Can't parse "
-              + SysProps.TESTS_RANDOM_FACTORY.propertyKey
-              + " property: "
-              + v
-              + " [valid values: "
-              + Stream.of(RandomInstanceFactory.values())
-                  .map(vv -> vv.name().toLowerCase(Locale.ROOT))
-                  .collect(Collectors.joining(", "))
-              + "]");
+    if (RandomInstanceProvider.forName(v) instanceof RandomInstanceFactory factory) {
+      return factory;
     }
+    throw new IllegalArgumentException("Not a built-in random instance factory: " + v);
   }
 
   @Override
@@ -42,6 +67,15 @@ public enum RandomInstanceFactory implements Supplier<LongFunction<Random>> {
     return switch (this) {
       case JDK -> Random::new;
       case XOROSHIRO_128_PLUS -> Xoroshiro128PlusRandom::new;
+      case L64X128_MIX -> jdkGenerator("L64X128MixRandom");
+      case XOSHIRO_256_PLUS_PLUS -> jdkGenerator("Xoshiro256PlusPlus");
+      case SPLITTABLE -> seed -> new RandomGeneratorAdapter(new SplittableRandom(seed));
+      case PHILOX_4X32_10 -> PhiloxRandom::new;
     };
   }
+
+  private static LongFunction<Random> jdkGenerator(String algorithm) {
+    var factory = RandomGeneratorFactory.of(algorithm);
+    return seed -> new RandomGeneratorAdapter(factory.create(seed));
+  }
 }
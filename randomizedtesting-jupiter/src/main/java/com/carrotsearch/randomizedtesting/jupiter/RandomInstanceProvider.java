@@ -0,0 +1,67 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A named supplier of seeded {@link Random} instances, selectable via the {@code
+ * tests.random.factory} property.
+ *
+ * <p>The built-in {@link RandomInstanceFactory} constants are always available. Additional
+ * implementations are discovered with {@link ServiceLoader}: declare them with {@code provides
+ * com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider with ...} in {@code
+ * module-info.java} (or in {@code META-INF/services} on the class path). Names are
+ * case-insensitive; built-ins take precedence over discovered providers with the same name.
+ *
+ * @see SysProps#TESTS_RANDOM_FACTORY
+ */
+public interface RandomInstanceProvider extends Supplier<LongFunction<Random>> {
+  /**
+   * @return The name of this provider, used to select it via {@code tests.random.factory}.
+   */
+  String name();
+
+  /**
+   * @return Returns a function creating new {@link Random} instances initialized with the given
+   *     seed. Instances returned for the same seed must produce identical sequences.
+   */
+  @Override
+  LongFunction<Random> get();
+
+  /**
+   * @return Returns all available providers (an unmodifiable list): the built-ins first, followed
+   *     by the discovered ones. Providers are discovered once, on the first call.
+   */
+  static List<RandomInstanceProvider> available() {
+    return RandomInstanceProviders.AVAILABLE;
+  }
+
+  /**
+   * @return Returns the provider with the given (case-insensitive) name.
+   * @throws IllegalArgumentException If no such provider is available.
+   */
+  static RandomInstanceProvider forName(String name) {
+    var providers = available();
+    for (var provider : providers) {
+      if (provider.name().equalsIgnoreCase(name)) {
+        return provider;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Can't parse "
+            + SysProps.TESTS_RANDOM_FACTORY.propertyKey
+            + " property: "
+            + name
+            + " [valid values: "
+            + providers.stream()
+                .map(p -> p.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "))
+            + "]");
+  }
+}
@@ -0,0 +1,27 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * The {@link RandomInstanceProvider}s available to {@link RandomInstanceProvider#available()},
+ * discovered once, when first needed.
+ */
+final class RandomInstanceProviders {
+  static final List<RandomInstanceProvider> AVAILABLE = discover();
+
+  private RandomInstanceProviders() {}
+
+  private static List<RandomInstanceProvider> discover() {
+    var providers = new LinkedHashMap<String, RandomInstanceProvider>();
+    for (var provider : RandomInstanceFactory.values()) {
+      providers.put(provider.name().toLowerCase(Locale.ROOT), provider);
+    }
+    for (var provider : ServiceLoader.load(RandomInstanceProvider.class)) {
+      providers.putIfAbsent(provider.name().toLowerCase(Locale.ROOT), provider);
+    }
+    return List.copyOf(providers.values());
+  }
+}
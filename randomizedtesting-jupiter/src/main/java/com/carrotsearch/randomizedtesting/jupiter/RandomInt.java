@@ -0,0 +1,25 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a random {@code int} (or {@link Integer}) parameter of a {@link Randomized} test method
+ * or hook, drawn from the context's parameter random (split from the context, so that injected
+ * values don't change the sequence of {@link RandomizedContext#getRandom()}) with {@link
+ * RandomNumbers#randomIntInRange}.
+ */
+@Target({ElementType.PARAMETER})
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RandomInt {
+  /** The minimum value (inclusive). */
+  int min() default 0;
+
+  /** The maximum value (inclusive). */
+  int max() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,68 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import com.carrotsearch.randomizedtesting.jupiter.internals.AssertingRandom;
+import com.carrotsearch.randomizedtesting.jupiter.internals.BufferedRandom;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * Explicit, checked transfer of the ownership of injected {@link Random} instances between threads.
+ *
+ * <p>With assertions enabled (see {@link SysProps#TESTS_RANDOM_ASSERTING}), injected {@link
+ * Random} instances can only be used by the thread that owns them. The methods of this class move
+ * the ownership to another thread without changing the random sequence, for example to continue
+ * the same stream in a virtual thread, a structured concurrency subtask or the next stage of a
+ * pipeline. The handoff must be sequential: the previous owner {@link #release(Random) releases}
+ * the instance before the next one {@link #acquire(Random) acquires} it. Any use of the instance by
+ * a thread that doesn't own it (including concurrent use) fails.
+ *
+ * <p>Releasing a buffered random (see {@link SysProps#TESTS_RANDOM_BUFFERED}) discards its
+ * buffered values, so that the releasing thread can't keep drawing them unchecked. The sequence
+ * then continues from the delegate, skipping the discarded values.
+ *
+ * <p>All methods are no-ops for non-asserting {@link Random} instances.
+ */
+public final class RandomOwnership {
+  private RandomOwnership() {}
+
+  /** Releases the ownership of the given random by the calling thread. */
+  public static void release(Random random) {
+    var asserting = AssertingRandom.assertingOf(random);
+    if (asserting != null) {
+      if (random instanceof BufferedRandom buffered) {
+        buffered.discard();
+      }
+      asserting.release();
+    }
+  }
+
+  /** Makes the calling thread the owner of the given (released) random. */
+  public static void acquire(Random random) {
+    var asserting = AssertingRandom.assertingOf(random);
+    if (asserting != null) {
+      asserting.acquire();
+    }
+  }
+
+  /**
+   * Releases the given random and returns a task that owns it for the duration of {@code task}'s
+   * execution (on any thread). The caller should {@link #acquire(Random)} the random again once the
+   * returned task completes.
+   *
+   * <pre>{@code
+   * var result = executor.submit(RandomOwnership.handOff(random, () -> random.nextInt())).get();
+   * RandomOwnership.acquire(random);
+   * }</pre>
+   */
+  public static <T> Callable<T> handOff(Random random, Callable<T> task) {
+    release(random);
+    return () -> {
+      acquire(random);
+      try {
+        return task.call();
+      } finally {
+        release(random);
+      }
+    };
+  }
+}
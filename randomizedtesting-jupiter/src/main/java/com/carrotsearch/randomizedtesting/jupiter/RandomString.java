@@ -0,0 +1,37 @@
+package com.carrotsearch.randomizedtesting.jupiter;
+
+import com.carrotsearch.randomizedtesting.jupiter.generators.AsciiLettersGenerator;
+import com.carrotsearch.randomizedtesting.jupiter.generators.StringGenerator;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a random {@link String} parameter of a {@link Randomized} test method or hook, drawn
+ * from the context's parameter random (see {@link RandomInt}) with a {@link StringGenerator}.
+ */
+@Target({ElementType.PARAMETER})
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RandomString {
+  /**
+   * The generator class. It must have a public no-argument constructor; a single instance is
+   * created per parameter.
+   */
+  Class<? extends StringGenerator> generator() default AsciiLettersGenerator.class;
+
+  /** The minimum length (inclusive). */
+  int min() default 0;
+
+  /** The maximum length (inclusive). */
+  int max() default 20;
+
+  /**
+   * If {@code true}, the length is counted in code points ({@link
+   * StringGenerator#ofCodePointsLength}), otherwise in code units ({@link
+   * StringGenerator#ofCodeUnitsLength}).
+   */
+  boolean codePoints() default false;
+}
@@ -1,5 +1,6 @@
 package com.carrotsearch.randomizedtesting.jupiter;
 
+import com.carrotsearch.randomizedtesting.jupiter.internals.RandomizedContextImpl;
 import java.util.Random;
 
 /**
@@ -12,8 +13,21 @@ import java.util.Random;
  * {@link #getRandom()}) must not be shared with other threads. To acquire a {@link Random} for
  * another thread, use {@link #splitRandom()} method or {@link #splitRandom(Seed)} to initialize the
  * returned random differently for different threads.
+ *
+ * <p>The context of the currently executing test, hook or constructor is also available from
+ * {@link #current()}, without parameter injection.
  */
 public interface RandomizedContext {
+  /**
+   * @return Returns the randomized context bound to the calling thread: the context of the
+   *     currently executing test method, hook or constructor of a {@link Randomized} test, or a
+   *     context bound by {@link #withSplitContext(Runnable)}. The lookup is a thread-local read.
+   * @throws IllegalStateException If no context is bound to the calling thread.
+   */
+  static RandomizedContext current() {
+    return RandomizedContextImpl.current();
+  }
+
   SeedChain getSeedChain();
 
   Seed getRootSeed();
@@ -25,8 +39,9 @@ public interface RandomizedContext {
   Random getRandom();
 
   /**
-   * @return A {@link Random} instance aimed for use by the calling thread. There are no guarantees:
-   *     two calls from the same thread may return the same or different {@link Random} objects.
+   * @return A new {@link Random} instance aimed for use by the calling thread. Each call returns an
+   *     independent stream: the {@code i}-th call on a context (from any thread) is seeded with a
+   *     hash of the context's seed and {@code i}, so it is reproducible for a given seed chain.
    */
   Random splitRandom();
 
@@ -36,4 +51,23 @@ public interface RandomizedContext {
    *     objects, initialized in an identical way.
    */
   Random splitRandom(Seed seed);
+
+  /**
+   * @return A {@link Random} instance aimed for use by the calling thread, positioned at the start
+   *     of the {@code index}-th substream of this context's random sequence. Two calls with the
+   *     same index return different {@link Random} objects, initialized in an identical way.
+   *     <p>For jumpable generators (like the default xoroshiro), substream {@code k} starts {@code
+   *     k + 1} jumps (2^64 draws each) after the start of {@link #getRandom()}, so substreams never
+   *     overlap with each other or with the context's own random. The cost is linear in {@code
+   *     index}. Other generators are seeded with a hash of the context's seed and the index.
+   */
+  Random substreamRandom(long index);
+
+  /**
+   * @return Returns a task that runs {@code task} with a child of this context bound as {@link
+   *     #current()}, typically in another thread. The child's seed is derived like the seed of
+   *     {@link #splitRandom()} (when this method is called), its {@link #getRandom()} is bound to
+   *     the thread running the task and it is closed when the task completes.
+   */
+  Runnable withSplitContext(Runnable task);
 }
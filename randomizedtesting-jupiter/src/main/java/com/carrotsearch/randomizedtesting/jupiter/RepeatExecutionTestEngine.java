@@ -1,12 +1,39 @@
 package com.carrotsearch.randomizedtesting.jupiter;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.OutputDirectoryCreator;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 
@@ -17,14 +44,33 @@ import org.junit.platform.engine.support.descriptor.EngineDescriptor;
  * <p><strong>This is an experimental class and an experimental implementation.</strong>
  *
  * <p>The number of iterations is controlled by the {@link SysProps#TESTS_ITERS} configuration
- * parameter. The default value (0) means no test are executed.
+ * parameter. The default value (0) means no test are executed. Iterations can be executed
+ * concurrently ({@link SysProps#TESTS_ITERS_PARALLELISM}). Alternatively, iterations are started
+ * until a time budget is spent ({@link SysProps#TESTS_ITERS_DURATION}); they only vary their root
+ * seeds if {@link SysProps#TESTS_SEED} is not fixed (a warning is logged otherwise). A summary of
+ * executed iterations (their number, iterations per second and root seeds of failed tests) is
+ * published as a report entry of the engine.
+ *
+ * <p>No more iterations are started after the first failed iteration ({@link
+ * SysProps#TESTS_ITERS_FAILFAST}) or a number of distinct failures ({@link
+ * SysProps#TESTS_ITERS_MAX_FAILURES}). The execution request is then cancelled, so iterations in
+ * progress skip their remaining tests. The request's cancellation token is the launcher's, so other
+ * engines of the same launcher run skip their remaining tests as well. Each iteration reports a
+ * failure if any of its tests failed.
  */
 public final class RepeatExecutionTestEngine implements TestEngine {
   /** The unique engine ID ({@value}). */
   public static final String ENGINE_ID = "randomizedtesting-jupiter";
 
+  private static final Logger LOGGER = Logger.getLogger(RepeatExecutionTestEngine.class.getName());
+
   private static final String JUPITER_ENGINE_ID = "junit-jupiter";
 
+  private static final UniqueId.Segment JUPITER_ROOT_SEGMENT =
+      UniqueId.forEngine(JUPITER_ENGINE_ID).getLastSegment();
+
+  private static final Pattern DURATION = Pattern.compile("([0-9]+)\\s*(ms|s|m|h)?");
+
   private final TestEngine jupiterEngine = loadJupiterEngine();
 
   @Override
@@ -34,64 +80,533 @@ public final class RepeatExecutionTestEngine implements TestEngine {
 
   @Override
   public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
-    int iterations =
-        request
-            .getConfigurationParameters()
-            .get(SysProps.TESTS_ITERS.propertyKey)
-            .map(Integer::parseInt)
-            .orElse(0);
+    var configuration = request.getConfigurationParameters();
+    boolean timed = iterationsDuration(configuration).isPresent();
 
-    UniqueId.Segment jupiterRootSegment;
-    {
-      var jupiterRootSegments = UniqueId.forEngine(JUPITER_ENGINE_ID).getSegments();
-      assert jupiterRootSegments.size() == 1;
-      jupiterRootSegment = jupiterRootSegments.getFirst();
+    // In the time-budgeted mode only the first iteration is discovered. The following ones are
+    // created (and registered dynamically) while there is time left.
+    int iterations = iterationCount(configuration, timed);
+    if (timed) {
+      iterations = Math.min(iterations, 1);
     }
 
+    // Only the first iteration is discovered from the request's selectors (which may involve
+    // scanning the class path). The following iterations are lazy: the tests of the first iteration
+    // are selected by their unique ids right before an iteration executes, and discarded
+    // afterwards. Their (empty) iteration descriptors are created here. Unique id selectors in the
+    // request refer to specific iterations though, so each iteration is discovered from the request
+    // if there are any.
+    boolean lazy = request.getSelectorsByType(UniqueIdSelector.class).isEmpty();
+
     var engineDescriptor = new EngineDescriptor(uniqueId, "RandomizedTesting");
     for (int i = 1; i <= iterations; i++) {
       var iterationUniqueId =
           uniqueId.append(ReiterationDescriptor.SEGMENT_TYPE, String.valueOf(i));
-      var jupiterDescriptor =
-          jupiterEngine.discover(request, iterationUniqueId.append(jupiterRootSegment));
 
-      var iterationDescriptor = new ReiterationDescriptor(iterationUniqueId, i);
-      iterationDescriptor.addChild(jupiterDescriptor);
-      engineDescriptor.addChild(iterationDescriptor);
+      if (i > 1 && lazy) {
+        engineDescriptor.addChild(new ReiterationDescriptor(iterationUniqueId, i, true));
+      } else {
+        var iterationDescriptor = new ReiterationDescriptor(iterationUniqueId, i);
+        iterationDescriptor.addChild(
+            jupiterEngine.discover(request, iterationUniqueId.append(JUPITER_ROOT_SEGMENT)));
+        engineDescriptor.addChild(iterationDescriptor);
+      }
     }
 
     return engineDescriptor;
   }
 
+  /**
+   * @return Returns the number of iterations ({@link SysProps#TESTS_ITERS}). In the time-budgeted
+   *     mode, the count is optional and only limits the number of iterations.
+   */
+  private static int iterationCount(ConfigurationParameters configuration, boolean timed) {
+    return configuration
+        .get(SysProps.TESTS_ITERS.propertyKey)
+        .map(Integer::parseInt)
+        .orElse(timed ? Integer.MAX_VALUE : 0);
+  }
+
+  /**
+   * @return Returns the time budget of iterations ({@link SysProps#TESTS_ITERS_DURATION}), if any.
+   */
+  private static Optional<Duration> iterationsDuration(ConfigurationParameters configuration) {
+    return configuration
+        .get(SysProps.TESTS_ITERS_DURATION.propertyKey)
+        .map(RepeatExecutionTestEngine::parseDuration);
+  }
+
+  /**
+   * @return Parses an ISO-8601 duration ({@code PT45M}) or a number with an optional {@code ms},
+   *     {@code s} (the default), {@code m} or {@code h} suffix.
+   */
+  private static Duration parseDuration(String value) {
+    var v = value.trim().toLowerCase(Locale.ROOT);
+    Duration duration;
+    if (v.startsWith("p")) {
+      duration = Duration.parse(v);
+    } else {
+      var matcher = DURATION.matcher(v);
+      if (!matcher.matches()) {
+        throw new IllegalArgumentException("Invalid duration: " + value);
+      }
+      long amount = Long.parseLong(matcher.group(1));
+      duration =
+          switch (Objects.requireNonNullElse(matcher.group(2), "s")) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            default -> Duration.ofSeconds(amount);
+          };
+    }
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("Duration must not be negative: " + value);
+    }
+    return duration;
+  }
+
+  /**
+   * @return Returns the unique id segments (relative to the iteration) of all tests (leaf
+   *     descriptors) of the first discovered iteration, in discovery order.
+   */
+  private static List<List<UniqueId.Segment>> selectedTests(TestDescriptor engineDescriptor) {
+    var tests = new ArrayList<List<UniqueId.Segment>>();
+    for (var child : engineDescriptor.getChildren()) {
+      if (!((ReiterationDescriptor) child).lazy) {
+        int prefixLength = child.getUniqueId().getSegments().size();
+        for (var descriptor : child.getDescendants()) {
+          if (descriptor.getChildren().isEmpty()) {
+            var segments = descriptor.getUniqueId().getSegments();
+            tests.add(List.copyOf(segments.subList(prefixLength, segments.size())));
+          }
+        }
+        break;
+      }
+    }
+    return tests;
+  }
+
+  private static List<UniqueIdSelector> uniqueIdSelectors(
+      UniqueId iterationUniqueId, List<List<UniqueId.Segment>> tests) {
+    var selectors = new ArrayList<UniqueIdSelector>(tests.size());
+    for (var segments : tests) {
+      var testUniqueId = iterationUniqueId;
+      for (var segment : segments) {
+        testUniqueId = testUniqueId.append(segment);
+      }
+      selectors.add(DiscoverySelectors.selectUniqueId(testUniqueId));
+    }
+    return selectors;
+  }
+
+  /** A discovery request with unique id selectors only (and no filters). */
+  private record UniqueIdSelectorsRequest(
+      List<UniqueIdSelector> selectors,
+      ConfigurationParameters configurationParameters,
+      OutputDirectoryCreator outputDirectoryCreator)
+      implements EngineDiscoveryRequest {
+    @Override
+    public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+      return selectors.stream().filter(selectorType::isInstance).map(selectorType::cast).toList();
+    }
+
+    @Override
+    public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+      return List.of();
+    }
+
+    @Override
+    public ConfigurationParameters getConfigurationParameters() {
+      return configurationParameters;
+    }
+
+    @Override
+    public OutputDirectoryCreator getOutputDirectoryCreator() {
+      return outputDirectoryCreator;
+    }
+  }
+
   public static class ReiterationDescriptor extends AbstractTestDescriptor {
     public static final String SEGMENT_TYPE = "reiteration";
 
+    /** If {@code true}, the tests of this iteration are discovered when it is executed. */
+    private final boolean lazy;
+
     public ReiterationDescriptor(UniqueId uniqueId, long iteration) {
+      this(uniqueId, iteration, false);
+    }
+
+    private ReiterationDescriptor(UniqueId uniqueId, long iteration, boolean lazy) {
       super(uniqueId, "Iteration " + iteration);
+      this.lazy = lazy;
     }
 
     @Override
     public Type getType() {
       return Type.CONTAINER;
     }
+
+    @Override
+    public boolean mayRegisterTests() {
+      return lazy;
+    }
   }
 
   @Override
   public void execute(ExecutionRequest request) {
     var engineDescriptor = request.getRootTestDescriptor();
     var listener = request.getEngineExecutionListener();
+
+    // The configuration is validated before the engine is started, so that it is never left
+    // unfinished.
+    var configuration = request.getConfigurationParameters();
+    int parallelism = iterationsParallelism(configuration);
+    var failureLimits = failureLimits(configuration);
+    var duration = iterationsDuration(configuration);
+    if (duration.isPresent() && rootSeedFixed(configuration)) {
+      LOGGER.warning(
+          "The root seed is fixed ("
+              + SysProps.TESTS_SEED.propertyKey
+              + "): all time-budgeted iterations replay the same seeds.");
+    }
+
     listener.executionStarted(engineDescriptor);
-    for (var child : engineDescriptor.getChildren()) {
-      executeIteration((ReiterationDescriptor) child, request);
+    var iterations =
+        duration.isPresent()
+            ? Iterations.timed(
+                request,
+                failureLimits,
+                duration.get(),
+                iterationCount(configuration, /* timed= */ true))
+            : Iterations.discovered(request, failureLimits);
+
+    // The launcher may have filtered the discovered tests, so these are collected now.
+    var selectedTests = selectedTests(engineDescriptor);
+    TestExecutionResult result;
+    try {
+      if (parallelism == 1) {
+        executeIterations(iterations, request, selectedTests);
+      } else {
+        executeConcurrently(iterations, request, parallelism, selectedTests);
+      }
+      result = TestExecutionResult.successful();
+    } catch (RuntimeException e) {
+      iterations.stop("Engine execution failed.");
+      result = TestExecutionResult.failed(e);
     }
-    listener.executionFinished(engineDescriptor, TestExecutionResult.successful());
+    iterations.skipRemaining();
+
+    listener.reportingEntryPublished(engineDescriptor, iterations.summary());
+    listener.executionFinished(engineDescriptor, result);
   }
 
-  private void executeIteration(
-      ReiterationDescriptor iterationDescriptor, ExecutionRequest request) {
-    var listener = request.getEngineExecutionListener();
-    listener.executionStarted(iterationDescriptor);
-    for (var jupiterDescriptor : iterationDescriptor.getChildren()) {
+  /**
+   * @return Returns {@code true} if {@link SysProps#TESTS_SEED} fixes the root seed, so that all
+   *     iterations have the same seeds.
+   */
+  private static boolean rootSeedFixed(ConfigurationParameters configuration) {
+    return configuration
+        .get(SysProps.TESTS_SEED.propertyKey)
+        .map(SeedChain::parse)
+        .filter(seedChain -> !seedChain.seeds().getFirst().isUnspecified())
+        .isPresent();
+  }
+
+  /**
+   * @return Returns the number of concurrently executed iterations ({@link
+   *     SysProps#TESTS_ITERS_PARALLELISM}).
+   */
+  private static int iterationsParallelism(ConfigurationParameters configuration) {
+    int parallelism =
+        configuration
+            .get(SysProps.TESTS_ITERS_PARALLELISM.propertyKey)
+            .map(Integer::parseInt)
+            .orElse(1);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          SysProps.TESTS_ITERS_PARALLELISM.propertyKey + " must be positive: " + parallelism);
+    }
+    return parallelism;
+  }
+
+  /**
+   * Limits of failures after which no more iterations are started.
+   *
+   * @param failedIterations The maximum number of failed iterations (0 for no limit).
+   * @param distinctFailures The maximum number of distinct failures (by test and exception type, 0
+   *     for no limit).
+   */
+  private record FailureLimits(int failedIterations, int distinctFailures) {}
+
+  private static FailureLimits failureLimits(ConfigurationParameters configuration) {
+    boolean failFast =
+        configuration
+            .get(SysProps.TESTS_ITERS_FAILFAST.propertyKey)
+            .map(Boolean::parseBoolean)
+            .orElse(false);
+    int maxFailures =
+        configuration
+            .get(SysProps.TESTS_ITERS_MAX_FAILURES.propertyKey)
+            .map(Integer::parseInt)
+            .orElse(0);
+    if (maxFailures < 0) {
+      throw new IllegalArgumentException(
+          SysProps.TESTS_ITERS_MAX_FAILURES.propertyKey + " must not be negative: " + maxFailures);
+    }
+    return new FailureLimits(failFast ? 1 : 0, maxFailures);
+  }
+
+  /**
+   * The iterations to execute (shared by all threads executing them) and a summary of executed
+   * iterations.
+   */
+  private static final class Iterations {
+    private final TestDescriptor engineDescriptor;
+    private final EngineExecutionListener listener;
+    private final Iterator<TestDescriptor> discovered;
+    private final long startNanos = System.nanoTime();
+
+    /** The deadline ({@link System#nanoTime()}) of the time-budgeted mode. */
+    private final long deadlineNanos;
+
+    private final CancellationToken cancellationToken;
+    private final FailureLimits failureLimits;
+    private final int maxIterations;
+    private final boolean timed;
+
+    /** A failure, deduplicated by the test and exception type. */
+    private record DistinctFailure(List<UniqueId.Segment> testId, String exceptionType) {}
+
+    private int started;
+    private int finished;
+    private int failedIterations;
+    private final Set<DistinctFailure> distinctFailures = new HashSet<>();
+    private final Set<String> failingSeeds = new LinkedHashSet<>();
+    private boolean failureLimitReached;
+
+    /** Why no more iterations are started, set when {@link #next()} first returns {@code null}. */
+    private String stopReason;
+
+    private Iterations(
+        ExecutionRequest request,
+        FailureLimits failureLimits,
+        boolean timed,
+        long budgetNanos,
+        int maxIterations) {
+      this.engineDescriptor = request.getRootTestDescriptor();
+      this.listener = request.getEngineExecutionListener();
+      this.cancellationToken = request.getCancellationToken();
+      this.discovered = List.copyOf(engineDescriptor.getChildren()).iterator();
+      this.failureLimits = failureLimits;
+      this.timed = timed;
+      this.deadlineNanos = startNanos + budgetNanos;
+      this.maxIterations = maxIterations;
+    }
+
+    /** All discovered iterations, until the execution is cancelled. */
+    static Iterations discovered(ExecutionRequest request, FailureLimits failureLimits) {
+      return new Iterations(request, failureLimits, false, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The discovered iteration followed by new iterations, started until the time budget is spent,
+     * the execution is cancelled or the maximum number of iterations is reached.
+     */
+    static Iterations timed(
+        ExecutionRequest request, FailureLimits failureLimits, Duration budget, int maxIterations) {
+      long budgetNanos;
+      try {
+        budgetNanos = budget.toNanos();
+      } catch (ArithmeticException e) {
+        budgetNanos = Long.MAX_VALUE / 2;
+      }
+      return new Iterations(request, failureLimits, true, budgetNanos, maxIterations);
+    }
+
+    /**
+     * @return Returns the next iteration to execute or {@code null} if there are no more.
+     */
+    synchronized ReiterationDescriptor next() {
+      if (stopReason != null) {
+        return null;
+      }
+      // The flag is checked first, in case the request's token does not support cancellation.
+      if (failureLimitReached) {
+        return stop("Failure limit reached.");
+      }
+      if (cancellationToken.isCancellationRequested()) {
+        return stop("Execution cancelled.");
+      }
+
+      if (!timed) {
+        return discovered.hasNext()
+            ? (ReiterationDescriptor) discovered.next()
+            : stop("All iterations executed.");
+      }
+
+      if (started >= maxIterations) {
+        return stop("Iteration limit reached.");
+      }
+      if (System.nanoTime() - deadlineNanos >= 0) {
+        return stop("Time budget spent.");
+      }
+
+      started++;
+      if (discovered.hasNext()) {
+        return (ReiterationDescriptor) discovered.next();
+      }
+
+      var iterationDescriptor =
+          new ReiterationDescriptor(
+              engineDescriptor
+                  .getUniqueId()
+                  .append(ReiterationDescriptor.SEGMENT_TYPE, String.valueOf(started)),
+              started,
+              true);
+      engineDescriptor.addChild(iterationDescriptor);
+      listener.dynamicTestRegistered(iterationDescriptor);
+      return iterationDescriptor;
+    }
+
+    /** Records the first reason to stop starting iterations; no more are started after it. */
+    synchronized ReiterationDescriptor stop(String reason) {
+      if (stopReason == null) {
+        stopReason = reason;
+      }
+      return null;
+    }
+
+    /**
+     * Reports discovered iterations that were not started as skipped, with the reason that stopped
+     * them.
+     */
+    synchronized void skipRemaining() {
+      discovered.forEachRemaining(
+          iterationDescriptor -> listener.executionSkipped(iterationDescriptor, stopReason));
+    }
+
+    /**
+     * Records an executed iteration and its failures. Cancels the execution (so that iterations in
+     * progress skip their remaining tests) once a failure limit is reached.
+     */
+    synchronized void finished(
+        ReiterationDescriptor iterationDescriptor, List<IterationListener.Failure> failures) {
+      finished++;
+      if (!failures.isEmpty()) {
+        failedIterations++;
+      }
+      for (var failure : failures) {
+        distinctFailures.add(new DistinctFailure(failure.testId(), failure.exceptionType()));
+        if (failure.seedChain() != null) {
+          failingSeeds.add(failure.seedChain().seeds().getFirst().toString());
+        }
+      }
+
+      if (!failureLimitReached
+          && (reached(failedIterations, failureLimits.failedIterations())
+              || reached(distinctFailures.size(), failureLimits.distinctFailures()))) {
+        failureLimitReached = true;
+        // Note: this is the launcher's token, the whole launcher run is cancelled.
+        cancellationToken.cancel();
+      }
+
+      if (timed && iterationDescriptor.lazy) {
+        // Iterations are not known in advance in the time-budgeted mode, so they're discarded too.
+        engineDescriptor.removeChild(iterationDescriptor);
+      }
+    }
+
+    private static boolean reached(int count, int limit) {
+      return limit > 0 && count >= limit;
+    }
+
+    /**
+     * @return Returns a report entry with the number of executed (and failed) iterations,
+     *     iterations per second, the number of distinct failures and root seeds of failed tests
+     *     (that can be used as {@link SysProps#TESTS_SEED}).
+     */
+    synchronized ReportEntry summary() {
+      double seconds = (System.nanoTime() - startNanos) / 1e9;
+      var values = new LinkedHashMap<String, String>();
+      values.put("iterations", Integer.toString(finished));
+      values.put(
+          "iterationsPerSecond",
+          String.format(Locale.ROOT, "%.2f", seconds > 0 ? finished / seconds : 0d));
+      values.put("failedIterations", Integer.toString(failedIterations));
+      values.put("distinctFailures", Integer.toString(distinctFailures.size()));
+      values.put("failingSeeds", String.join(",", failingSeeds));
+      values.put("failureLimitReached", Boolean.toString(failureLimitReached));
+      return ReportEntry.from(values);
+    }
+  }
+
+  private void executeIterations(
+      Iterations iterations, ExecutionRequest request, List<List<UniqueId.Segment>> selectedTests) {
+    for (ReiterationDescriptor iteration; (iteration = iterations.next()) != null; ) {
+      iterations.finished(iteration, executeIteration(iteration, request, selectedTests));
+    }
+  }
+
+  /**
+   * Executes iterations on a bounded pool of threads. Each iteration is a separate execution of the
+   * jupiter engine (with its own root context), so seeds are derived exactly as in sequential
+   * execution.
+   */
+  private void executeConcurrently(
+      Iterations iterations,
+      ExecutionRequest request,
+      int parallelism,
+      List<List<UniqueId.Segment>> selectedTests) {
+    var threadIndex = new AtomicInteger();
+    var futures = new ArrayList<Future<?>>();
+    try (var executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            task -> new Thread(task, "reiteration-" + threadIndex.incrementAndGet()))) {
+      for (int i = 0; i < parallelism; i++) {
+        futures.add(executor.submit(() -> executeIterations(iterations, request, selectedTests)));
+      }
+
+      for (var future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+          // Other threads finish their current iterations but don't start new ones.
+          iterations.stop("Engine execution failed.");
+          throw new RuntimeException(e.getCause());
+        }
+      }
+    }
+  }
+
+  /**
+   * @return Returns the failures of the iteration's tests and containers.
+   */
+  private List<IterationListener.Failure> executeIteration(
+      ReiterationDescriptor iterationDescriptor,
+      ExecutionRequest request,
+      List<List<UniqueId.Segment>> selectedTests) {
+    var listener = new IterationListener(request.getEngineExecutionListener(), iterationDescriptor);
+    request.getEngineExecutionListener().executionStarted(iterationDescriptor);
+    if (iterationDescriptor.lazy) {
+      var iterationUniqueId = iterationDescriptor.getUniqueId();
+      var jupiterDescriptor =
+          jupiterEngine.discover(
+              new UniqueIdSelectorsRequest(
+                  uniqueIdSelectors(iterationUniqueId, selectedTests),
+                  request.getConfigurationParameters(),
+                  request.getOutputDirectoryCreator()),
+              iterationUniqueId.append(JUPITER_ROOT_SEGMENT));
+      iterationDescriptor.addChild(jupiterDescriptor);
+      // The launcher keeps a test identifier of each registered descriptor in its test plan (until
+      // the end of the run), so its memory use still grows with every lazy iteration.
+      jupiterDescriptor.accept(listener::dynamicTestRegistered);
+    }
+
+    for (var jupiterDescriptor : List.copyOf(iterationDescriptor.getChildren())) {
       jupiterEngine.execute(
           ExecutionRequest.create(
               jupiterDescriptor,
@@ -100,8 +615,47 @@ public final class RepeatExecutionTestEngine implements TestEngine {
               request.getOutputDirectoryCreator(),
               request.getStore(),
               request.getCancellationToken()));
+
+      if (iterationDescriptor.lazy) {
+        // Discard the executed descriptors of the iteration's tests, so that the engine doesn't
+        // hold on to them (the iteration's descriptor itself stays until the end of the execution
+        // in the count mode, where all iteration descriptors are created up front).
+        iterationDescriptor.removeChild(jupiterDescriptor);
+      }
     }
-    listener.executionFinished(iterationDescriptor, TestExecutionResult.successful());
+
+    var failures = listener.failures();
+    request
+        .getEngineExecutionListener()
+        .executionFinished(
+            iterationDescriptor,
+            failures.isEmpty()
+                ? TestExecutionResult.successful()
+                : TestExecutionResult.failed(iterationFailure(iterationDescriptor, failures)));
+    return failures;
+  }
+
+  /**
+   * @return Returns the aggregated failure of an iteration, caused by the first failure of its
+   *     tests (or containers).
+   */
+  private static AssertionError iterationFailure(
+      ReiterationDescriptor iterationDescriptor, List<IterationListener.Failure> failures) {
+    var seedChains =
+        failures.stream()
+            .map(IterationListener.Failure::seedChain)
+            .filter(Objects::nonNull)
+            .map(SeedChain::toString)
+            .distinct()
+            .collect(Collectors.joining(", "));
+    return new AssertionError(
+        String.format(
+            Locale.ROOT,
+            "%s: %d failure(s)%s",
+            iterationDescriptor.getDisplayName(),
+            failures.size(),
+            seedChains.isEmpty() ? "" : ", seeds: " + seedChains),
+        failures.getFirst().throwable());
   }
 
   private static TestEngine loadJupiterEngine() {
@@ -9,9 +9,10 @@ public enum SysProps {
 
   /**
    * String name of the factory used to create {@link Random} instances (see {@link
-   * RandomInstanceFactory} for named implementations).
+   * RandomInstanceFactory} for built-in implementations and {@link RandomInstanceProvider} for
+   * custom ones).
    *
-   * @see RandomInstanceFactory
+   * @see RandomInstanceProvider
    */
   TESTS_RANDOM_FACTORY("tests.random.factory"),
 
@@ -21,6 +22,48 @@ public enum SysProps {
    */
   TESTS_RANDOM_ASSERTING("tests.random.asserting"),
 
+  /**
+   * An integer {@code N} that makes the assertions of {@link #TESTS_RANDOM_ASSERTING} check only a
+   * sample of calls to asserting {@link Random} instances: the first {@code N} calls and then one
+   * in {@code N} calls on average, at random intervals. Zero (the default) checks every call.
+   */
+  TESTS_RANDOM_ASSERTING_SAMPLING("tests.random.asserting.sampling"),
+
+  /**
+   * A boolean property that makes the injected {@link Random} instances serve draws from a block of
+   * pre-generated values (with thread ownership checked once per block, not once per call). The
+   * values drawn are identical to those of the unbuffered instances. Only applies to factories
+   * whose draws are all derived from {@link Random#nextLong()} (like the default xoroshiro).
+   */
+  TESTS_RANDOM_BUFFERED("tests.random.buffered"),
+
+  /**
+   * How much of the allocation stack of asserting {@link Random} instances is captured (and
+   * reported when an instance is used from a wrong thread): {@code full}, {@code truncated} (the
+   * default, a few top frames) or {@code none}.
+   */
+  TESTS_RANDOM_ALLOCATION_STACK("tests.random.allocation.stack"),
+
+  /**
+   * The memory budget (in bytes, with an optional {@code k}, {@code m} or {@code g} suffix) of
+   * recently used fixtures kept by {@link FixtureCache}. The default is a quarter of the maximum
+   * heap size.
+   */
+  TESTS_FIXTURES_BUDGET("tests.fixtures.budget"),
+
+  /**
+   * The directory of corpora cached by {@link CorpusCache}. The default is {@code
+   * randomizedtesting-corpora} in the temporary directory ({@code java.io.tmpdir}).
+   */
+  TESTS_CORPUS_DIR("tests.corpus.dir"),
+
+  /**
+   * The maximum total size (in bytes, with an optional {@code k}, {@code m} or {@code g} suffix) of
+   * corpora cached by {@link CorpusCache}. Least recently used corpora are deleted to stay within
+   * this limit. The default is {@code 16g}.
+   */
+  TESTS_CORPUS_MAX_SIZE("tests.corpus.maxsize"),
+
   /**
    * Test reiteration count for the experimental test engine that re-runs full suites multiple times
    * (with a constant or varying seed).
@@ -29,6 +72,45 @@ public enum SysProps {
    */
   TESTS_ITERS("tests.iters"),
 
+  /**
+   * The number of iterations of {@link #TESTS_ITERS} executed concurrently (on a bounded pool of
+   * threads). The default (1) executes iterations sequentially.
+   *
+   * @see RepeatExecutionTestEngine
+   */
+  TESTS_ITERS_PARALLELISM("tests.iters.parallelism"),
+
+  /**
+   * A time budget of reiteration: new iterations (with new root seeds, unless {@link #TESTS_SEED}
+   * is fixed: every iteration then replays the same seeds and a warning is logged) are started
+   * until it is spent. An ISO-8601 duration ({@code PT45M}) or a number with
+   * an optional {@code ms}, {@code s} (the default), {@code m} or {@code h} suffix. {@link
+   * #TESTS_ITERS} is optional in this mode and limits the number of iterations.
+   *
+   * @see RepeatExecutionTestEngine
+   */
+  TESTS_ITERS_DURATION("tests.iters.duration"),
+
+  /**
+   * A boolean property that stops reiteration after the first iteration with a failed test. The
+   * execution is cancelled, so the remaining tests and iterations are skipped. The cancellation is
+   * launcher-wide: test engines (and their classes) that haven't finished yet in the same launcher
+   * run are skipped too.
+   *
+   * @see RepeatExecutionTestEngine
+   */
+  TESTS_ITERS_FAILFAST("tests.iters.failfast"),
+
+  /**
+   * Stops reiteration after the given number of distinct failures (deduplicated by the test and the
+   * exception type). The execution is cancelled, so the remaining tests and iterations are skipped,
+   * as are other test engines of the same launcher run (see {@link #TESTS_ITERS_FAILFAST}). The
+   * default (0) means no limit.
+   *
+   * @see RepeatExecutionTestEngine
+   */
+  TESTS_ITERS_MAX_FAILURES("tests.iters.maxfailures"),
+
   /**
    * A "multiplier" for certain methods that return random values in {@link RandomizedTest}.
    *
@@ -0,0 +1,138 @@
+package com.carrotsearch.randomizedtesting.jupiter.generators;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * A {@link Random} with all draws derived from {@link #nextLong()}. Subclasses producing the same
+ * sequence of longs produce identical sequences of all other values. Changing the seed with {@link
+ * #setSeed(long)} is not supported.
+ */
+public abstract class LongBasedRandom extends Random {
+  protected static final double DOUBLE_UNIT = 0x1.0p-53; // 1.0 / (1L << 53);
+  protected static final float FLOAT_UNIT = 0x1.0p-24f; // 1.0 / (1L << 24);
+  private static final VarHandle LONG_LE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * This generator seen through the {@link RandomGenerator} interface only, so that its default
+   * (lock-free) method implementations can be reached; {@link Random} overrides some of them.
+   */
+  private final RandomGenerator longSource = this::nextLong;
+
+  /** {@code false} while the {@link Random} constructor calls {@link #setSeed(long)}. */
+  private final boolean constructed;
+
+  protected LongBasedRandom() {
+    // Must be here, the only Random constructor. Has side-effects on setSeed, see below.
+    super(0);
+    this.constructed = true;
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    // Called from the super constructor (and observing uninitialized state)?
+    if (!constructed) {
+      return;
+    }
+
+    throw new RuntimeException(
+        "Changing the seed of Random instances is forbidden, it breaks repeatability"
+            + " of tests. If you need a mutable instance of Random, create a new (local) instance,"
+            + " preferably with the initial seed acquired from this Random instance.");
+  }
+
+  @Override
+  public abstract long nextLong();
+
+  @Override
+  public boolean nextBoolean() {
+    return nextLong() >= 0;
+  }
+
+  /**
+   * Fills the array with consecutive {@link #nextLong()} values, stored in little-endian order. The
+   * trailing bytes (if the length is not a multiple of 8) are taken from the low bytes of one more
+   * value.
+   */
+  @Override
+  public void nextBytes(byte[] bytes) {
+    int i = 0;
+    for (int max = bytes.length - Long.BYTES; i <= max; i += Long.BYTES) {
+      LONG_LE.set(bytes, i, nextLong());
+    }
+    if (i < bytes.length) {
+      for (long rnd = nextLong(); i < bytes.length; rnd >>>= 8) {
+        bytes[i++] = (byte) rnd;
+      }
+    }
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * DOUBLE_UNIT;
+  }
+
+  @Override
+  public float nextFloat() {
+    return (nextInt() >>> 8) * FLOAT_UNIT;
+  }
+
+  @Override
+  public int nextInt() {
+    return (int) nextLong();
+  }
+
+  /**
+   * Unbiased bounded draw using Lemire's nearly divisionless multiply-shift method: the high 32
+   * bits of the next long are scaled by the bound and a (rare) rejection step removes the bias.
+   *
+   * @see "https://arxiv.org/abs/1805.10941"
+   */
+  @Override
+  public int nextInt(int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("bound must be positive: " + bound);
+    }
+
+    long m = (nextLong() >>> 32) * bound;
+    long l = m & 0xffffffffL;
+    if (l < bound) {
+      long t = (1L << 32) % bound;
+      while (l < t) {
+        m = (nextLong() >>> 32) * bound;
+        l = m & 0xffffffffL;
+      }
+    }
+    return (int) (m >>> 32);
+  }
+
+  /**
+   * @see RandomNumbers#nextLong(Random, long)
+   */
+  @Override
+  public long nextLong(long bound) {
+    return RandomNumbers.nextLong(this, bound);
+  }
+
+  /**
+   * Uses the JDK's modified ziggurat sampler ({@link RandomGenerator#nextGaussian()}) instead of
+   * the synchronized polar method of {@link Random#nextGaussian()}. No state other than the
+   * generator's is involved, so the output is deterministic for a given seed.
+   *
+   * <p>{@link #nextExponential()} is not overridden in {@link Random} and uses the same (ziggurat)
+   * approach by default.
+   */
+  @Override
+  public double nextGaussian() {
+    return longSource.nextGaussian();
+  }
+
+  @Override
+  protected int next(int bits) {
+    return ((int) nextLong()) >>> (32 - bits);
+  }
+}
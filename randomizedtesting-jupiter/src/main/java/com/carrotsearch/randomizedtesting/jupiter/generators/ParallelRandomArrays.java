@@ -0,0 +1,170 @@
+package com.carrotsearch.randomizedtesting.jupiter.generators;
+
+import com.carrotsearch.randomizedtesting.jupiter.Hashing;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.Seed;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Parallel (fork-join) generation of large primitive arrays and streams of random values.
+ *
+ * <p>The output is split into fixed-size chunks of {@value #CHUNK_SIZE} elements. Each call draws
+ * a base seed from the context's next {@link RandomizedContext#splitRandom()} and each chunk is
+ * generated from its own {@link RandomizedContext#splitRandom(Seed)}, seeded with a hash of the
+ * base seed and the chunk index. Consecutive calls on a context return different values, but the
+ * {@code i}-th call depends only on the context (and so on {@code tests.seed}), never on the
+ * number of threads or the pool used. A stream of {@code n} values contains exactly the elements
+ * of an array of length {@code n} filled by the same call on a context with the same seed chain.
+ *
+ * <p>All methods must be called from the thread that owns the context. The chunk seeds of a stream
+ * are derived eagerly, when the stream is created, but its values are generated lazily, by the
+ * terminal operation: consume the stream within the test that created it.
+ */
+public final class ParallelRandomArrays {
+  /** The number of consecutive elements generated from a single chunk's {@link Random}. */
+  public static final int CHUNK_SIZE = 1 << 16;
+
+  private static final long CHUNK_SEED_SALT = Hashing.hash("ParallelRandomArrays.chunk");
+
+  /** Fills the array with {@link Random#nextInt()} values, in parallel. */
+  public static void fill(RandomizedContext ctx, int[] array) {
+    fill(ctx, array, ForkJoinPool.commonPool());
+  }
+
+  /** Fills the array with {@link Random#nextInt()} values, in parallel, using the given pool. */
+  public static void fill(RandomizedContext ctx, int[] array, ForkJoinPool pool) {
+    fillChunks(ctx, pool, array.length, (r, from, to) -> RandomArrays.fill(r, array, from, to));
+  }
+
+  /** Fills the array with {@link Random#nextLong()} values, in parallel. */
+  public static void fill(RandomizedContext ctx, long[] array) {
+    fill(ctx, array, ForkJoinPool.commonPool());
+  }
+
+  /** Fills the array with {@link Random#nextLong()} values, in parallel, using the given pool. */
+  public static void fill(RandomizedContext ctx, long[] array, ForkJoinPool pool) {
+    fillChunks(ctx, pool, array.length, (r, from, to) -> RandomArrays.fill(r, array, from, to));
+  }
+
+  /** Fills the array with {@link Random#nextDouble()} values, in parallel. */
+  public static void fill(RandomizedContext ctx, double[] array) {
+    fill(ctx, array, ForkJoinPool.commonPool());
+  }
+
+  /** Fills the array with {@link Random#nextDouble()} values, in parallel, using the given pool. */
+  public static void fill(RandomizedContext ctx, double[] array, ForkJoinPool pool) {
+    fillChunks(ctx, pool, array.length, (r, from, to) -> RandomArrays.fill(r, array, from, to));
+  }
+
+  /** Fills the array with {@link Random#nextFloat()} values, in parallel. */
+  public static void fill(RandomizedContext ctx, float[] array) {
+    fill(ctx, array, ForkJoinPool.commonPool());
+  }
+
+  /** Fills the array with {@link Random#nextFloat()} values, in parallel, using the given pool. */
+  public static void fill(RandomizedContext ctx, float[] array, ForkJoinPool pool) {
+    fillChunks(ctx, pool, array.length, (r, from, to) -> RandomArrays.fill(r, array, from, to));
+  }
+
+  /**
+   * @return Returns a parallel, ordered stream of {@code count} {@link Random#nextInt()} values.
+   */
+  public static IntStream ints(RandomizedContext ctx, long count) {
+    var seeds = chunkSeeds(ctx, count);
+    return IntStream.range(0, seeds.length)
+        .parallel()
+        .mapToObj(
+            chunk -> {
+              var values = new int[chunkLength(chunk, count)];
+              RandomArrays.fill(ctx.splitRandom(seeds[chunk]), values);
+              return IntStream.of(values);
+            })
+        .flatMapToInt(s -> s);
+  }
+
+  /**
+   * @return Returns a parallel, ordered stream of {@code count} {@link Random#nextLong()} values.
+   */
+  public static LongStream longs(RandomizedContext ctx, long count) {
+    var seeds = chunkSeeds(ctx, count);
+    return IntStream.range(0, seeds.length)
+        .parallel()
+        .mapToObj(
+            chunk -> {
+              var values = new long[chunkLength(chunk, count)];
+              RandomArrays.fill(ctx.splitRandom(seeds[chunk]), values);
+              return LongStream.of(values);
+            })
+        .flatMapToLong(s -> s);
+  }
+
+  /**
+   * @return Returns a parallel, ordered stream of {@code count} {@link Random#nextDouble()} values.
+   */
+  public static DoubleStream doubles(RandomizedContext ctx, long count) {
+    var seeds = chunkSeeds(ctx, count);
+    return IntStream.range(0, seeds.length)
+        .parallel()
+        .mapToObj(
+            chunk -> {
+              var values = new double[chunkLength(chunk, count)];
+              RandomArrays.fill(ctx.splitRandom(seeds[chunk]), values);
+              return DoubleStream.of(values);
+            })
+        .flatMapToDouble(s -> s);
+  }
+
+  /**
+   * Derives the seeds of all chunks of {@code count} elements eagerly, on the calling thread, from a
+   * base seed drawn from the context's next {@link RandomizedContext#splitRandom()}. Each chunk's
+   * {@link Random} is created from its seed on the thread that generates the chunk.
+   */
+  private static Seed[] chunkSeeds(RandomizedContext ctx, long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    long chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    if (chunkCount > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("count is too large: " + count);
+    }
+
+    // Chunk indexes start at 1 and are salted: Hashing.hash(0) == 0.
+    var base = ctx.splitRandom().nextLong();
+    var seeds = new Seed[(int) chunkCount];
+    for (int chunk = 0; chunk < seeds.length; chunk++) {
+      seeds[chunk] = new Seed(Hashing.hash(base ^ Hashing.hash(CHUNK_SEED_SALT + chunk + 1)));
+    }
+    return seeds;
+  }
+
+  private interface ChunkFiller {
+    void fill(Random random, int fromIndex, int toIndex);
+  }
+
+  private static void fillChunks(
+      RandomizedContext ctx, ForkJoinPool pool, int length, ChunkFiller filler) {
+    var seeds = chunkSeeds(ctx, length);
+    // Parallel streams started from within a fork-join task execute in that task's pool.
+    pool.submit(
+            () ->
+                IntStream.range(0, seeds.length)
+                    .parallel()
+                    .forEach(
+                        chunk -> {
+                          int from = chunk * CHUNK_SIZE;
+                          filler.fill(
+                              ctx.splitRandom(seeds[chunk]),
+                              from,
+                              from + chunkLength(chunk, length));
+                        }))
+        .join();
+  }
+
+  private static int chunkLength(long chunk, long count) {
+    return (int) Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE);
+  }
+}
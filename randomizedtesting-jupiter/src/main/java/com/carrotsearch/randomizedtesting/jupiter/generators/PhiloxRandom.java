@@ -0,0 +1,190 @@
+package com.carrotsearch.randomizedtesting.jupiter.generators;
+
+import com.carrotsearch.randomizedtesting.jupiter.Seed;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A counter-based generator (Philox4x32-10), keyed by a {@link Seed}.
+ *
+ * <p>The {@code i}-th value of the sequence is a pure function of the key and {@code i}. Any value
+ * can be computed directly with {@link #valueAt(long)} and a range of the sequence can be filled
+ * in parallel ({@link #parallelFill(long[], long)}) with output identical to a sequential {@link
+ * #fill(long[], long)} or to consecutive {@link #nextLong()} calls, regardless of the number of
+ * threads. Every 128-bit Philox block yields two consecutive values.
+ *
+ * <p>The sequential ({@link Random}) part of this class is not synchronized; {@link
+ * #valueAt(long)} and the fill methods do not modify any state and can be called from any thread.
+ *
+ * @see "https://www.thesalmons.org/john/random123/papers/random123sc11.pdf"
+ */
+public final class PhiloxRandom extends LongBasedRandom {
+  private static final int M0 = 0xD2511F53;
+  private static final int M1 = 0xCD9E8D57;
+  private static final int W0 = 0x9E3779B9;
+  private static final int W1 = 0xBB67AE85;
+  private static final int ROUNDS = 10;
+
+  /** Minimum number of values filled by a single fork-join task. */
+  private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private final int k0, k1;
+
+  /** The last computed block (for sequential access) and its counter. */
+  private final long[] block;
+
+  /** No valid counter is negative (counters are indexes shifted right by one). */
+  private long blockCounter = -1;
+
+  /** Index of the value returned by the next call to {@link #nextLong()}. */
+  private long position;
+
+  public PhiloxRandom(Seed key) {
+    this(key.value());
+  }
+
+  public PhiloxRandom(long key) {
+    this.k0 = (int) key;
+    this.k1 = (int) (key >>> 32);
+    this.block = new long[2];
+  }
+
+  /**
+   * @return Returns the value at the given (unsigned) index of the sequence, without changing the
+   *     state of this generator.
+   */
+  public long valueAt(long index) {
+    return block(index >>> 1, (int) (index & 1), null, 0);
+  }
+
+  /**
+   * @return Returns the index of the value the next call to {@link #nextLong()} will return.
+   */
+  public long position() {
+    return position;
+  }
+
+  /** Moves the sequential position of this generator to the given index. */
+  public void seek(long index) {
+    this.position = index;
+  }
+
+  /**
+   * Fills the array with the values at indexes {@code firstIndex}, {@code firstIndex + 1}, and so
+   * on. Does not change the state of this generator.
+   */
+  public void fill(long[] target, long firstIndex) {
+    fill(target, 0, target.length, firstIndex);
+  }
+
+  /**
+   * Same as {@link #fill(long[], long)}, but splits the work across the common {@link
+   * ForkJoinPool}. The output is identical.
+   */
+  public void parallelFill(long[] target, long firstIndex) {
+    parallelFill(target, firstIndex, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #fill(long[], long)}, but splits the work across the given {@link
+   * ForkJoinPool}. The output is identical.
+   */
+  public void parallelFill(long[] target, long firstIndex, ForkJoinPool pool) {
+    Objects.requireNonNull(target);
+    pool.invoke(new FillTask(target, 0, target.length, firstIndex));
+  }
+
+  private final class FillTask extends RecursiveAction {
+    private final long[] target;
+    private final int from, to;
+    private final long firstIndex;
+
+    FillTask(long[] target, int from, int to, long firstIndex) {
+      this.target = target;
+      this.from = from;
+      this.to = to;
+      this.firstIndex = firstIndex;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        fill(target, from, to, firstIndex);
+      } else {
+        // Split at an even index of the sequence (a block boundary), so that no block is computed
+        // twice.
+        int mid = from + (to - from) / 2;
+        if (((firstIndex + (mid - from)) & 1) != 0) {
+          mid++;
+        }
+        invokeAll(
+            new FillTask(target, from, mid, firstIndex),
+            new FillTask(target, mid, to, firstIndex + (mid - from)));
+      }
+    }
+  }
+
+  private void fill(long[] target, int from, int to, long firstIndex) {
+    int i = from;
+    long index = firstIndex;
+    if ((index & 1) != 0 && i < to) {
+      target[i++] = valueAt(index++);
+    }
+    for (; i + 1 < to; i += 2, index += 2) {
+      block(index >>> 1, 0, target, i);
+    }
+    if (i < to) {
+      target[i] = valueAt(index);
+    }
+  }
+
+  /**
+   * Computes Philox4x32-10 for the 128-bit counter {@code (counter, 0)}. The output is two longs
+   * (lanes 0-1 and lanes 2-3, low lane in the low bits). Both are stored at {@code target[offset]}
+   * and {@code target[offset + 1]}, unless {@code target} is {@code null}.
+   *
+   * @return Returns the output long selected by {@code half} (0 or 1).
+   */
+  private long block(long counter, int half, long[] target, int offset) {
+    int c0 = (int) counter;
+    int c1 = (int) (counter >>> 32);
+    int c2 = 0;
+    int c3 = 0;
+    int k0 = this.k0;
+    int k1 = this.k1;
+    for (int round = 0; round < ROUNDS; round++) {
+      if (round > 0) {
+        k0 += W0;
+        k1 += W1;
+      }
+      long p0 = (M0 & 0xffffffffL) * (c0 & 0xffffffffL);
+      long p1 = (M1 & 0xffffffffL) * (c2 & 0xffffffffL);
+      int n0 = (int) (p1 >>> 32) ^ c1 ^ k0;
+      int n2 = (int) (p0 >>> 32) ^ c3 ^ k1;
+      c1 = (int) p1;
+      c3 = (int) p0;
+      c0 = n0;
+      c2 = n2;
+    }
+    long low = (c0 & 0xffffffffL) | ((long) c1 << 32);
+    long high = (c2 & 0xffffffffL) | ((long) c3 << 32);
+    if (target != null) {
+      target[offset] = low;
+      target[offset + 1] = high;
+    }
+    return half == 0 ? low : high;
+  }
+
+  @Override
+  public long nextLong() {
+    long index = position++;
+    long counter = index >>> 1;
+    if (counter != blockCounter) {
+      block(counter, 0, block, 0);
+      blockCounter = counter;
+    }
+    return block[(int) (index & 1)];
+  }
+}
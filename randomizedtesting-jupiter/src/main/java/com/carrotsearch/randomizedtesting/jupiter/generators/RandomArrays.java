@@ -0,0 +1,104 @@
+package com.carrotsearch.randomizedtesting.jupiter.generators;
+
+import com.carrotsearch.randomizedtesting.jupiter.internals.BulkDraws;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Bulk filling of primitive arrays with random values.
+ *
+ * <p>Each method produces exactly the values a per-element loop calling the corresponding {@link
+ * Random} method (or {@link RandomNumbers} method, for ranges) would produce, in the same order.
+ * The thread ownership of asserting {@link Random} instances is verified once per call and the
+ * built-in xoroshiro generator is filled in a tight loop.
+ */
+public final class RandomArrays {
+  /** Fills the array with {@link Random#nextInt()} values. */
+  public static void fill(Random r, int[] array) {
+    fill(r, array, 0, array.length);
+  }
+
+  /** Fills the array range with {@link Random#nextInt()} values. */
+  public static void fill(Random r, int[] array, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    BulkDraws.fill(r, array, fromIndex, toIndex);
+  }
+
+  /** Fills the array with {@link Random#nextLong()} values. */
+  public static void fill(Random r, long[] array) {
+    fill(r, array, 0, array.length);
+  }
+
+  /** Fills the array range with {@link Random#nextLong()} values. */
+  public static void fill(Random r, long[] array, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    BulkDraws.fill(r, array, fromIndex, toIndex);
+  }
+
+  /** Fills the array with {@link Random#nextDouble()} values. */
+  public static void fill(Random r, double[] array) {
+    fill(r, array, 0, array.length);
+  }
+
+  /** Fills the array range with {@link Random#nextDouble()} values. */
+  public static void fill(Random r, double[] array, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    BulkDraws.fill(r, array, fromIndex, toIndex);
+  }
+
+  /** Fills the array with {@link Random#nextFloat()} values. */
+  public static void fill(Random r, float[] array) {
+    fill(r, array, 0, array.length);
+  }
+
+  /** Fills the array range with {@link Random#nextFloat()} values. */
+  public static void fill(Random r, float[] array, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    BulkDraws.fill(r, array, fromIndex, toIndex);
+  }
+
+  /**
+   * Fills the array with values between <code>min</code> (inclusive) and <code>max</code>
+   * (inclusive).
+   *
+   * @see RandomNumbers#randomIntInRange(Random, int, int)
+   */
+  public static void fillInRange(Random r, int[] array, int min, int max) {
+    fillInRange(r, array, 0, array.length, min, max);
+  }
+
+  /**
+   * Fills the array range with values between <code>min</code> (inclusive) and <code>max</code>
+   * (inclusive).
+   *
+   * @see RandomNumbers#randomIntInRange(Random, int, int)
+   */
+  public static void fillInRange(
+      Random r, int[] array, int fromIndex, int toIndex, int min, int max) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    assert max >= min : "max must be >= min: " + min + ", " + max;
+    BulkDraws.fillInRange(r, array, fromIndex, toIndex, min, max);
+  }
+
+  /**
+   * Fills the array with values between <code>min</code> (inclusive) and <code>max</code>
+   * (inclusive).
+   *
+   * @see RandomNumbers#randomLongInRange(Random, long, long)
+   */
+  public static void fillInRange(Random r, long[] array, long min, long max) {
+    fillInRange(r, array, 0, array.length, min, max);
+  }
+
+  /**
+   * Fills the array range with values between <code>min</code> (inclusive) and <code>max</code>
+   * (inclusive).
+   *
+   * @see RandomNumbers#randomLongInRange(Random, long, long)
+   */
+  public static void fillInRange(
+      Random r, long[] array, int fromIndex, int toIndex, long min, long max) {
+    Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+    BulkDraws.fillInRange(r, array, fromIndex, toIndex, min, max);
+  }
+}
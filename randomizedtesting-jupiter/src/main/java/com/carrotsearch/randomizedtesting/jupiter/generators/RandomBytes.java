@@ -1,5 +1,7 @@
 package com.carrotsearch.randomizedtesting.jupiter.generators;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Random;
 
 /** Random byte sequence generators. */
@@ -24,4 +26,56 @@ public final class RandomBytes {
     r.nextBytes(bytes);
     return bytes;
   }
+
+  /**
+   * @param r Random generator.
+   * @param length The length of the buffer. Can be zero.
+   * @return Returns a direct (off-heap) buffer with random content, positioned at zero.
+   * @see #fill(Random, ByteBuffer)
+   */
+  public static ByteBuffer randomDirectBytesOfLength(Random r, int length) {
+    return randomDirectBytesOfLengthBetween(r, length, length);
+  }
+
+  /**
+   * @param r Random generator.
+   * @param minLength The minimum length of the buffer (inclusive). Can be zero.
+   * @param maxLength The maximum length of the buffer (inclusive). Can be zero.
+   * @return Returns a direct (off-heap) buffer with random content, positioned at zero.
+   * @see #fill(Random, ByteBuffer)
+   */
+  public static ByteBuffer randomDirectBytesOfLengthBetween(
+      Random r, int minLength, int maxLength) {
+    var buffer =
+        ByteBuffer.allocateDirect(RandomNumbers.randomIntInRange(r, minLength, maxLength));
+    fill(r, buffer);
+    return buffer.flip();
+  }
+
+  /**
+   * Fills the remaining bytes of a (heap or direct) buffer with random content and moves its
+   * position to the limit. No intermediate array is allocated: the content is written 8 bytes at a
+   * time from consecutive {@link Random#nextLong()} values, in little-endian order. The trailing
+   * bytes (if any) are the low bytes of one more value.
+   *
+   * <p>For the built-in xoroshiro generator this is the same content {@link
+   * Random#nextBytes(byte[])} would produce for an array of the same length.
+   *
+   * @param r Random generator.
+   * @param buffer The buffer to fill. Its byte order is not changed.
+   */
+  public static void fill(Random r, ByteBuffer buffer) {
+    var view = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    int length = view.remaining();
+    int i = 0;
+    for (int max = length - Long.BYTES; i <= max; i += Long.BYTES) {
+      view.putLong(i, r.nextLong());
+    }
+    if (i < length) {
+      for (long rnd = r.nextLong(); i < length; rnd >>>= 8) {
+        view.put(i++, (byte) rnd);
+      }
+    }
+    buffer.position(buffer.limit());
+  }
 }
@@ -62,25 +62,29 @@ public final class RandomNumbers {
    * Similar to {@link Random#nextInt(int)}, but returns a long between 0 (inclusive) and <code>n
    * </code> (exclusive).
    *
+   * <p>The value is picked without bias using Lemire's nearly divisionless method: the high 64 bits
+   * of a 128-bit product of a random long and <code>n</code>, with an occasional rejection step.
+   *
    * @param rnd Random generator.
    * @param n the bound on the random number to be returned. Must be positive.
    * @return Returns a random number between 0 and n-1.
+   * @see "https://arxiv.org/abs/1805.10941"
    */
   public static long nextLong(Random rnd, long n) {
     if (n <= 0) {
       throw new IllegalArgumentException("n <= 0: " + n);
     }
 
-    long value = rnd.nextLong();
-    long range = n - 1;
-    if ((n & range) == 0L) {
-      value &= range;
-    } else {
-      for (long u = value >>> 1; u + range - (value = u % n) < 0L; ) {
-        u = rnd.nextLong() >>> 1;
+    long x = rnd.nextLong();
+    long l = x * n;
+    if (Long.compareUnsigned(l, n) < 0) {
+      long t = Long.remainderUnsigned(-n, n);
+      while (Long.compareUnsigned(l, t) < 0) {
+        x = rnd.nextLong();
+        l = x * n;
       }
     }
-    return value;
+    return Math.unsignedMultiplyHigh(x, n);
   }
 
   private static int toIntExact(long value) {
@@ -0,0 +1,67 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * How much of the allocation stack {@link AssertingRandom} captures (for reporting cross-thread
+ * access violations).
+ *
+ * @see SysProps#TESTS_RANDOM_ALLOCATION_STACK
+ */
+public enum AllocationStackCapture {
+  /** The complete stack. Expensive: allocates all frames of every asserting random. */
+  FULL,
+
+  /** The top {@value #TRUNCATED_DEPTH} frames, collected with a bounded {@link StackWalker}. */
+  TRUNCATED,
+
+  /** No stack is captured. */
+  NONE;
+
+  static final int TRUNCATED_DEPTH = 16;
+
+  private static final StackWalker WALKER = StackWalker.getInstance();
+
+  /**
+   * @return Returns the stack of the caller (without the frames of {@link AssertingRandom} and this
+   *     class) or {@code null} if nothing is captured.
+   */
+  StackTraceElement[] capture() {
+    return switch (this) {
+      case NONE -> null;
+      case FULL -> WALKER.walk(frames -> toArray(frames, Long.MAX_VALUE));
+      case TRUNCATED -> WALKER.walk(frames -> toArray(frames, TRUNCATED_DEPTH));
+    };
+  }
+
+  private static StackTraceElement[] toArray(Stream<StackWalker.StackFrame> frames, long limit) {
+    return frames
+        .dropWhile(
+            f ->
+                f.getClassName().equals(AllocationStackCapture.class.getName())
+                    || f.getClassName().equals(AssertingRandom.class.getName()))
+        .limit(limit)
+        .map(StackWalker.StackFrame::toStackTraceElement)
+        .toArray(StackTraceElement[]::new);
+  }
+
+  public static AllocationStackCapture parse(String v) {
+    try {
+      return AllocationStackCapture.valueOf(v.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Can't parse "
+              + SysProps.TESTS_RANDOM_ALLOCATION_STACK.propertyKey
+              + " property: "
+              + v
+              + " [valid values: "
+              + Stream.of(AllocationStackCapture.values())
+                  .map(vv -> vv.name().toLowerCase(Locale.ROOT))
+                  .collect(Collectors.joining(", "))
+              + "]");
+    }
+  }
+}
@@ -1,39 +1,101 @@
 package com.carrotsearch.randomizedtesting.jupiter.internals;
 
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
 import java.io.Closeable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Random;
 
 /**
  * A {@link Random} with a delegate, preventing {@link Random#setSeed(long)} and locked to only be
- * usable by a single {@link Thread}.
+ * usable by a single {@link Thread} at a time. The owner thread can {@link #release()} the instance
+ * so that another thread can {@link #acquire()} it (a strictly sequential handoff).
  */
 public final class AssertingRandom extends Random implements Closeable {
+  private static final VarHandle OWNER;
+
+  static {
+    try {
+      OWNER = MethodHandles.lookup().findVarHandle(AssertingRandom.class, "owner", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /** Owner sentinel: the instance has been released and can be acquired by any thread. */
+  private static final Object RELEASED = new Object();
+
+  /** Owner sentinel: the instance has been closed. */
+  private static final Object INVALID = new Object();
+
   private final Random delegate;
-  private final Thread ownerRef;
   private final String ownerName;
+
+  /** The allocation stack (possibly truncated) or {@code null} if it was not captured. */
   private final StackTraceElement[] allocationStack;
 
   /**
-   * Track out-of-context use of this {@link Random} instance. This introduces memory barriers and
-   * scheduling side effects but there's no other way to do it in any other way and sharing randoms
-   * across threads or test cases is very bad and worth tracking.
+   * The owner {@link Thread}, {@link #RELEASED} or {@link #INVALID}. Tracks out-of-context use of
+   * this {@link Random} instance. This introduces memory barriers and scheduling side effects but
+   * there's no other way to do it in any other way and sharing randoms across threads or test
+   * cases is very bad and worth tracking.
    */
-  private volatile boolean valid = true;
+  private volatile Object owner;
+
+  /** The average interval between checks, zero if every call is checked. */
+  private final int sampling;
+
+  /** Calls left until the next check (sampling mode only). */
+  private int callsUntilCheck = 1;
+
+  /** Checks left before switching to random intervals (sampling mode only). */
+  private int warmupChecks;
+
+  /** A private xorshift state for picking sampling intervals (never affects the delegate). */
+  private int intervalState;
 
   /**
    * Creates an instance to be used by <code>owner</code> thread and delegating to <code>delegate
    * </code> until {@link #close()}ed.
    */
   public AssertingRandom(Thread owner, Random delegate) {
+    this(owner, delegate, AllocationStackCapture.TRUNCATED);
+  }
+
+  /**
+   * Same as {@link #AssertingRandom(Thread, Random)}, with the given amount of the allocation stack
+   * captured for error reporting.
+   */
+  public AssertingRandom(Thread owner, Random delegate, AllocationStackCapture stackCapture) {
+    this(owner, delegate, stackCapture, 0);
+  }
+
+  /**
+   * Same as {@link #AssertingRandom(Thread, Random, AllocationStackCapture)} but if {@code
+   * sampling} is positive, only a sample of calls is checked: the first {@code sampling} calls,
+   * then one call at a random interval of {@code 1} to {@code 2 * sampling - 1} calls (one in
+   * {@code sampling} calls, on average). Calls outside the sample cost a decrement of a plain
+   * field.
+   */
+  public AssertingRandom(
+      Thread owner, Random delegate, AllocationStackCapture stackCapture, int sampling) {
     // Must be here, the only Random constructor. Has side effects on setSeed, see below.
     super(0);
 
     this.delegate = delegate;
-    this.ownerRef = Objects.requireNonNull(owner);
+    this.owner = Objects.requireNonNull(owner);
     this.ownerName = owner.toString();
-    this.allocationStack = Thread.currentThread().getStackTrace();
+    this.allocationStack = stackCapture.capture();
+
+    if (sampling < 0) {
+      throw new IllegalArgumentException("Sampling must not be negative: " + sampling);
+    }
+    this.sampling = sampling;
+    // The first call is always checked (callsUntilCheck starts at 1), the rest of the warm-up here.
+    this.warmupChecks = Math.max(0, sampling - 1);
+    this.intervalState = System.identityHashCode(this) | 1;
   }
 
   @Override
@@ -71,6 +133,12 @@ public final class AssertingRandom extends Random implements Closeable {
     return delegate.nextGaussian();
   }
 
+  @Override
+  public double nextExponential() {
+    checkValid();
+    return delegate.nextExponential();
+  }
+
   @Override
   public int nextInt() {
     checkValid();
@@ -89,6 +157,12 @@ public final class AssertingRandom extends Random implements Closeable {
     return delegate.nextLong();
   }
 
+  @Override
+  public long nextLong(long bound) {
+    checkValid();
+    return delegate.nextLong(bound);
+  }
+
   @Override
   public void setSeed(long seed) {
     // This is an interesting case of observing uninitialized object from an instance method
@@ -118,9 +192,61 @@ public final class AssertingRandom extends Random implements Closeable {
     return delegate.hashCode();
   }
 
+  /** Returns the (unchecked) delegate of this instance. */
+  Random delegate() {
+    return delegate;
+  }
+
+  /**
+   * Verifies (once) that this instance can be used by the calling thread and returns its delegate.
+   * This is meant for {@link BulkDraws}, which would otherwise repeat the check for every value
+   * drawn; the returned delegate must not escape such an operation.
+   */
+  Random checkedDelegate() {
+    verify();
+    return delegate;
+  }
+
+  /**
+   * Releases the ownership of this instance by the calling thread. No thread can use this instance
+   * until it is {@link #acquire() acquired}.
+   */
+  public void release() {
+    // Check the first call of the next owner, even in sampling mode. Written before the owner is
+    // published, so that the next owner's acquire() sees it.
+    this.callsUntilCheck = 1;
+    if (!OWNER.compareAndSet(this, Thread.currentThread(), RELEASED)) {
+      verify();
+    }
+  }
+
+  /**
+   * Makes the calling thread the owner of this (previously {@link #release() released}) instance.
+   * Does nothing if the calling thread already owns this instance.
+   */
+  public void acquire() {
+    var current = Thread.currentThread();
+    if (!OWNER.compareAndSet(this, RELEASED, current) && owner != current) {
+      verify();
+    }
+  }
+
+  /**
+   * @return Returns the asserting random of the given (possibly buffered) random or {@code null} if
+   *     it is not asserting.
+   */
+  public static AssertingRandom assertingOf(Random random) {
+    if (random instanceof BufferedRandom buffered) {
+      random = buffered.delegate();
+    }
+    return random instanceof AssertingRandom asserting ? asserting : null;
+  }
+
   /** This object will no longer be usable after this method is called. */
   public void close() {
-    this.valid = false;
+    // Check the next call, even in sampling mode.
+    this.callsUntilCheck = 1;
+    this.owner = INVALID;
   }
 
   private static final class StackTraceHolder extends Throwable {
@@ -129,25 +255,71 @@ public final class AssertingRandom extends Random implements Closeable {
     }
   }
 
-  /* */
   private void checkValid() {
-    if (!valid) {
+    if (sampling != 0) {
+      if (--callsUntilCheck > 0) {
+        return;
+      }
+      callsUntilCheck = nextInterval();
+    }
+    verify();
+  }
+
+  private int nextInterval() {
+    if (warmupChecks > 0) {
+      warmupChecks--;
+      return 1;
+    }
+
+    int x = intervalState;
+    x ^= x << 13;
+    x ^= x >>> 17;
+    x ^= x << 5;
+    intervalState = x;
+    return 1 + (int) (Integer.toUnsignedLong(x) % (2L * sampling - 1));
+  }
+
+  /* */
+  private void verify() {
+    var owner = this.owner;
+    if (owner == INVALID) {
       throw new RuntimeException(
           "This Random instance has been invalidated and "
               + "is probably used out of its allowed context (test or suite).");
     }
 
-    if (Thread.currentThread() != ownerRef) {
-      Throwable allocationEx =
-          new StackTraceHolder(
-              "Original allocation stack for this Random (" + "allocated by " + ownerName + ")");
-      allocationEx.setStackTrace(allocationStack);
+    if (owner == RELEASED) {
+      throw new RuntimeException(
+          String.format(
+              Locale.ROOT,
+              "This Random instance has been released by its owner, thread %s must acquire it"
+                  + " first.",
+              Thread.currentThread()));
+    }
+
+    if (Thread.currentThread() != owner) {
+      Throwable allocationEx;
+      if (allocationStack == null) {
+        allocationEx =
+            new StackTraceHolder(
+                "Allocation stack for this Random (allocated by "
+                    + ownerName
+                    + ") was not captured, set "
+                    + SysProps.TESTS_RANDOM_ALLOCATION_STACK.propertyKey
+                    + " to capture it");
+        allocationEx.setStackTrace(new StackTraceElement[0]);
+      } else {
+        allocationEx =
+            new StackTraceHolder(
+                "Original allocation stack for this Random (" + "allocated by " + ownerName + ")");
+        allocationEx.setStackTrace(allocationStack);
+      }
       throw new RuntimeException(
           String.format(
               Locale.ROOT,
               "This Random instance is tied to thread %s, can't access it from thread: %s "
                   + "(Random instances must not be shared). Allocation stack is included as a nested exception.",
-              ownerName,
+              owner,
               Thread.currentThread()),
           allocationEx);
     }
@@ -0,0 +1,83 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.generators.LongBasedRandom;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomArrays;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * A {@link Random} serving draws from a block of longs pre-generated by its delegate.
+ *
+ * <p>The block is refilled with {@link RandomArrays#fill(Random, long[])}, so the ownership checks
+ * of an {@link AssertingRandom} delegate happen once per refill rather than once per draw. Only
+ * delegates based on a {@link LongBasedRandom} can be buffered (see {@link #canBuffer(Random)}):
+ * all draws are then derived from the same sequence of longs and are identical to the draws of the
+ * unbuffered delegate. Closing or {@linkplain #discard() releasing} this random discards the
+ * buffered values so that any subsequent draw reaches the delegate (and its checks) again.
+ *
+ * <p>Draws served from the block are not checked: concurrent use between refills may return
+ * duplicated values rather than fail.
+ */
+public final class BufferedRandom extends LongBasedRandom implements Closeable {
+  /** The number of longs generated in one refill. */
+  static final int BLOCK_SIZE = 256;
+
+  private final Random delegate;
+  private final long[] block;
+  private int next;
+
+  public BufferedRandom(Random delegate) {
+    if (!canBuffer(delegate)) {
+      throw new IllegalArgumentException("Can't buffer this random: " + delegate.getClass());
+    }
+    this.delegate = delegate;
+    this.block = new long[BLOCK_SIZE];
+    this.next = BLOCK_SIZE;
+  }
+
+  /**
+   * @return Returns {@code true} if the draws of the given (possibly asserting) random are all
+   *     derived from its {@link Random#nextLong()} and it can be buffered without changing them.
+   */
+  public static boolean canBuffer(Random random) {
+    if (random instanceof AssertingRandom asserting) {
+      random = asserting.delegate();
+    }
+    return random instanceof LongBasedRandom && !(random instanceof BufferedRandom);
+  }
+
+  @Override
+  public long nextLong() {
+    // A local copy, so that (incorrect) concurrent use can't index past the block.
+    int index = next;
+    if (index >= BLOCK_SIZE) {
+      RandomArrays.fill(delegate, block);
+      index = 0;
+    }
+    next = index + 1;
+    return block[index];
+  }
+
+  /**
+   * Discards the buffered values, so that the next draw reaches the delegate (and its checks).
+   * Called when the ownership of the delegate is released.
+   */
+  public void discard() {
+    next = BLOCK_SIZE;
+  }
+
+  /** Returns the delegate of this instance. Draws from it skip any buffered values. */
+  Random delegate() {
+    return delegate;
+  }
+
+  /** Discards the buffered values and closes the delegate (if it is closeable). */
+  @Override
+  public void close() throws IOException {
+    discard();
+    if (delegate instanceof Closeable c) {
+      c.close();
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomArrays;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import java.util.Random;
+
+/**
+ * Bulk draws behind {@link RandomArrays}. The ownership of an {@link AssertingRandom} is verified
+ * once per call and its delegate never leaves this class; the built-in xoroshiro generator is
+ * filled in a tight loop.
+ */
+public final class BulkDraws {
+  private BulkDraws() {}
+
+  /** Fills the array range with {@link Random#nextInt()} values. */
+  public static void fill(Random r, int[] array, int fromIndex, int toIndex) {
+    var source = unwrap(r);
+    if (source instanceof Xoroshiro128PlusRandom xoroshiro) {
+      xoroshiro.fill(array, fromIndex, toIndex);
+    } else {
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = source.nextInt();
+      }
+    }
+  }
+
+  /** Fills the array range with {@link Random#nextLong()} values. */
+  public static void fill(Random r, long[] array, int fromIndex, int toIndex) {
+    var source = unwrap(r);
+    if (source instanceof Xoroshiro128PlusRandom xoroshiro) {
+      xoroshiro.fill(array, fromIndex, toIndex);
+    } else {
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = source.nextLong();
+      }
+    }
+  }
+
+  /** Fills the array range with {@link Random#nextDouble()} values. */
+  public static void fill(Random r, double[] array, int fromIndex, int toIndex) {
+    var source = unwrap(r);
+    if (source instanceof Xoroshiro128PlusRandom xoroshiro) {
+      xoroshiro.fill(array, fromIndex, toIndex);
+    } else {
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = source.nextDouble();
+      }
+    }
+  }
+
+  /** Fills the array range with {@link Random#nextFloat()} values. */
+  public static void fill(Random r, float[] array, int fromIndex, int toIndex) {
+    var source = unwrap(r);
+    if (source instanceof Xoroshiro128PlusRandom xoroshiro) {
+      xoroshiro.fill(array, fromIndex, toIndex);
+    } else {
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = source.nextFloat();
+      }
+    }
+  }
+
+  /**
+   * Fills the array range with values between {@code min} and {@code max} (inclusive).
+   *
+   * @see RandomNumbers#randomIntInRange(Random, int, int)
+   */
+  public static void fillInRange(
+      Random r, int[] array, int fromIndex, int toIndex, int min, int max) {
+    var source = unwrap(r);
+    long range = (long) max - (long) min;
+    if (source instanceof Xoroshiro128PlusRandom xoroshiro && range < Integer.MAX_VALUE) {
+      int bound = 1 + (int) range;
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = min + xoroshiro.nextInt(bound);
+      }
+    } else {
+      for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = RandomNumbers.randomIntInRange(source, min, max);
+      }
+    }
+  }
+
+  /**
+   * Fills the array range with values between {@code min} and {@code max} (inclusive).
+   *
+   * @see RandomNumbers#randomLongInRange(Random, long, long)
+   */
+  public static void fillInRange(
+      Random r, long[] array, int fromIndex, int toIndex, long min, long max) {
+    var source = unwrap(r);
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = RandomNumbers.randomLongInRange(source, min, max);
+    }
+  }
+
+  /**
+   * Returns the {@link Random} to draw from directly, checking the ownership of asserting instances
+   * once.
+   */
+  private static Random unwrap(Random r) {
+    return r instanceof AssertingRandom asserting ? asserting.checkedDelegate() : r;
+  }
+}
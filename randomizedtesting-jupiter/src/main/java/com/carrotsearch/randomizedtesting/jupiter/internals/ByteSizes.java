@@ -0,0 +1,26 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import java.util.Locale;
+
+/** Parsing of byte sizes in configuration parameters. */
+final class ByteSizes {
+  private ByteSizes() {}
+
+  /**
+   * @return Parses a number of bytes with an optional {@code k}, {@code m} or {@code g} suffix.
+   */
+  static long parse(String value) {
+    var v = value.trim().toLowerCase(Locale.ROOT);
+    int shift =
+        switch (v.isEmpty() ? ' ' : v.charAt(v.length() - 1)) {
+          case 'k' -> 10;
+          case 'm' -> 20;
+          case 'g' -> 30;
+          default -> 0;
+        };
+    if (shift != 0) {
+      v = v.substring(0, v.length() - 1);
+    }
+    return Long.parseLong(v) << shift;
+  }
+}
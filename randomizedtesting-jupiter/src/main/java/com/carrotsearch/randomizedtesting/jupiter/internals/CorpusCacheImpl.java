@@ -0,0 +1,290 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.CorpusCache;
+import com.carrotsearch.randomizedtesting.jupiter.Hashing;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.Seed;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The {@link CorpusCache} of a root {@link RandomizedContext}. Each corpus is stored in a data file
+ * ({@code .bin}) and a checksum file ({@code .crc32c}, with the size and the CRC32C of the data).
+ * The checksum file is written last so that its presence marks a complete corpus. A corpus is
+ * verified (once per cache instance) before it is first returned.
+ *
+ * <p>Files are written to temporary files and atomically moved in place, so concurrent JVMs
+ * generating the same corpus don't interfere (they produce identical files). The modification time
+ * of data files is updated on each use and least recently used corpora are deleted first.
+ * Temporary files count toward the maximum size; those left behind by killed JVMs are deleted when
+ * the cache is first used.
+ */
+final class CorpusCacheImpl implements CorpusCache {
+  private static final Pattern GENERATOR_ID = Pattern.compile("[A-Za-z0-9._-]+");
+
+  private static final String DATA_SUFFIX = ".bin";
+  private static final String CHECKSUM_SUFFIX = ".crc32c";
+  private static final String TMP_SUFFIX = ".tmp";
+
+  /**
+   * Temporary files not modified for this long are considered abandoned (a generating JVM keeps
+   * writing to its files).
+   */
+  private static final Duration STALE_TMP_AGE = Duration.ofHours(1);
+
+  /** The size of regions mapped to compute checksums. */
+  private static final long CHECKSUM_REGION = 1L << 30;
+
+  private final RandomizedContext rootContext;
+  private final String randomFactory;
+  private final Path directory;
+  private final long maxSize;
+
+  /** Corpora verified by this instance. */
+  private final Set<Path> verified = new HashSet<>();
+
+  /** Whether stale temporary files have been deleted. */
+  private boolean opened;
+
+  private record CorpusImpl(Path path, long size) implements Corpus {
+    @Override
+    public MappedByteBuffer map(long position, long length) throws IOException {
+      Objects.checkFromIndexSize(position, length, size);
+      try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      }
+    }
+  }
+
+  /**
+   * @param randomFactory The name of the random factory (the generated content depends on it).
+   */
+  CorpusCacheImpl(
+      RandomizedContext rootContext, String randomFactory, Path directory, long maxSize) {
+    this.rootContext = rootContext;
+    this.randomFactory = randomFactory;
+    this.directory = directory;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public synchronized Corpus computeIfAbsent(
+      String generatorId, int version, Object parameters, CorpusGenerator generator)
+      throws IOException {
+    if (!GENERATOR_ID.matcher(generatorId).matches()) {
+      throw new IllegalArgumentException("Invalid corpus generator id: " + generatorId);
+    }
+    if (!opened) {
+      deleteStaleTemporaryFiles();
+      opened = true;
+    }
+
+    long rootSeed = rootContext.getRootSeed().value();
+    long seed =
+        Hashing.hash(
+            Hashing.hash(rootSeed ^ Hashing.hash(generatorId + "/" + version))
+                ^ Hashing.hash(randomFactory + "/" + parameters));
+    var name =
+        String.format(
+            Locale.ROOT,
+            "%s-v%d-%s-%s",
+            generatorId,
+            version,
+            HexFormat.of().toHexDigits(rootSeed),
+            HexFormat.of().toHexDigits(seed));
+    var data = directory.resolve(name + DATA_SUFFIX);
+    var checksum = directory.resolve(name + CHECKSUM_SUFFIX);
+
+    var corpus = verify(data, checksum);
+    if (corpus == null) {
+      corpus = generate(data, checksum, new Seed(seed), generator);
+      evict(data);
+    }
+    return corpus;
+  }
+
+  /**
+   * @return Returns the verified corpus or {@code null} if it doesn't exist or is damaged (in which
+   *     case its files are deleted).
+   */
+  private Corpus verify(Path data, Path checksum) throws IOException {
+    String[] expected;
+    long size;
+    try {
+      expected = Files.readString(checksum, StandardCharsets.US_ASCII).trim().split(" ");
+      size = Files.size(data);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+
+    if (!verified.contains(data)) {
+      if (expected.length != 2
+          || !expected[0].equals(Long.toString(size))
+          || !expected[1].equals(checksumOf(data, size))) {
+        Files.deleteIfExists(checksum);
+        Files.deleteIfExists(data);
+        return null;
+      }
+      verified.add(data);
+    }
+
+    Files.setLastModifiedTime(data, FileTime.fromMillis(System.currentTimeMillis()));
+    return new CorpusImpl(data, size);
+  }
+
+  /** Deletes temporary files abandoned by JVMs that were killed while generating a corpus. */
+  private void deleteStaleTemporaryFiles() throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+
+    var staleBefore = FileTime.from(Instant.now().minus(STALE_TMP_AGE));
+    try (var files = Files.newDirectoryStream(directory, "*" + TMP_SUFFIX)) {
+      for (var file : files) {
+        try {
+          if (Files.getLastModifiedTime(file).compareTo(staleBefore) < 0) {
+            Files.deleteIfExists(file);
+          }
+        } catch (NoSuchFileException e) {
+          // Moved in place or deleted concurrently.
+        }
+      }
+    }
+  }
+
+  private Corpus generate(Path data, Path checksum, Seed seed, CorpusGenerator generator)
+      throws IOException {
+    Files.createDirectories(directory);
+
+    var crc = new CRC32C();
+    long size;
+    var tmpData = Files.createTempFile(directory, data.getFileName().toString(), TMP_SUFFIX);
+    try {
+      try (var channel = FileChannel.open(tmpData, StandardOpenOption.WRITE);
+          var output =
+              new CheckedOutputStream(
+                  new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc)) {
+        generator.generate(rootContext.splitRandom(seed), nonClosing(output));
+        output.flush();
+        size = channel.size();
+      }
+      Files.move(tmpData, data, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmpData);
+    }
+
+    var tmpChecksum =
+        Files.createTempFile(directory, checksum.getFileName().toString(), TMP_SUFFIX);
+    try {
+      Files.writeString(tmpChecksum, size + " " + toHex(crc.getValue()), StandardCharsets.US_ASCII);
+      Files.move(tmpChecksum, checksum, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmpChecksum);
+    }
+
+    verified.add(data);
+    return new CorpusImpl(data, size);
+  }
+
+  /**
+   * Deletes least recently used corpora (other than {@code keep}) over the maximum size. Temporary
+   * files (of corpora being generated) count toward the size but are never deleted here.
+   */
+  private void evict(Path keep) throws IOException {
+    record Candidate(Path data, long size, FileTime lastUsed) {}
+
+    var candidates = new ArrayList<Candidate>();
+    long total = 0;
+    try (var files = Files.newDirectoryStream(directory)) {
+      for (var file : files) {
+        var fileName = file.getFileName().toString();
+        boolean isData = fileName.endsWith(DATA_SUFFIX);
+        if (!isData && !fileName.endsWith(TMP_SUFFIX)) {
+          continue;
+        }
+        try {
+          var size = Files.size(file);
+          total += size;
+          if (isData && !file.equals(keep)) {
+            candidates.add(new Candidate(file, size, Files.getLastModifiedTime(file)));
+          }
+        } catch (NoSuchFileException e) {
+          // Deleted concurrently.
+        }
+      }
+    }
+
+    candidates.sort(Comparator.comparing(Candidate::lastUsed));
+    for (var i = candidates.iterator(); total > maxSize && i.hasNext(); ) {
+      var candidate = i.next();
+      var fileName = candidate.data().getFileName().toString();
+      var name = fileName.substring(0, fileName.length() - DATA_SUFFIX.length());
+      // The checksum first, so that the corpus is never observed as complete.
+      Files.deleteIfExists(directory.resolve(name + CHECKSUM_SUFFIX));
+      Files.deleteIfExists(candidate.data());
+      verified.remove(candidate.data());
+      total -= candidate.size();
+    }
+  }
+
+  private static String checksumOf(Path data, long size) throws IOException {
+    var crc = new CRC32C();
+    try (var channel = FileChannel.open(data, StandardOpenOption.READ)) {
+      for (long position = 0; position < size; position += CHECKSUM_REGION) {
+        crc.update(
+            channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                position,
+                Math.min(CHECKSUM_REGION, size - position)));
+      }
+    }
+    return toHex(crc.getValue());
+  }
+
+  private static String toHex(long crc) {
+    return HexFormat.of().toHexDigits((int) crc);
+  }
+
+  /** Prevents generators from closing the stream (and the underlying channel) prematurely. */
+  private static OutputStream nonClosing(OutputStream output) {
+    return new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        output.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        output.write(b, off, len);
+      }
+
+      @Override
+      public void flush() throws IOException {
+        output.flush();
+      }
+    };
+  }
+}
@@ -1,6 +1,7 @@
 package com.carrotsearch.randomizedtesting.jupiter.internals;
 
 import com.carrotsearch.randomizedtesting.jupiter.DetectThreadLeaks;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -59,8 +60,16 @@ public class DetectThreadLeaksExtension
                           .map(v -> ExecutionMode.valueOf(v.toUpperCase(Locale.ROOT)))
                           .orElse(ExecutionMode.SAME_THREAD);
 
+                  var parallelIterations =
+                      rootContext
+                          .getConfigurationParameter(
+                              SysProps.TESTS_ITERS_PARALLELISM.propertyKey)
+                          .map(Integer::parseInt)
+                          .orElse(1);
+
                   boolean isParallelMode =
-                      parallelEnabled && parallelClasses != ExecutionMode.SAME_THREAD;
+                      (parallelEnabled && parallelClasses != ExecutionMode.SAME_THREAD)
+                          || parallelIterations > 1;
                   if (isParallelMode) {
                     LOGGER.warning("Thread leak detection is disabled in parallel mode.");
                   }
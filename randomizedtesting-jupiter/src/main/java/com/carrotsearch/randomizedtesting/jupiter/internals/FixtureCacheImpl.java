@@ -0,0 +1,176 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.FixtureCache;
+import com.carrotsearch.randomizedtesting.jupiter.Hashing;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.Seed;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link FixtureCache} of a root {@link RandomizedContext}. Entries are kept in access order;
+ * the most recently used ones are strongly referenced within the byte budget, the rest are softly
+ * referenced until the garbage collector clears them.
+ */
+final class FixtureCacheImpl implements FixtureCache, AutoCloseable {
+  private record Key(Seed rootSeed, String generatorId, Object parameters) {}
+
+  private static final class Entry {
+    final SoftReference<Object> soft;
+    final long size;
+    Object strong;
+
+    Entry(Object value, long size) {
+      this.soft = new SoftReference<>(value);
+      this.size = size;
+    }
+  }
+
+  /** A fixture being built, outside the cache's lock, by the builder thread. */
+  private record Pending(Thread builder, CompletableFuture<Object> value) {}
+
+  private final RandomizedContext rootContext;
+  private final long budget;
+
+  /** All entries, least recently used first. */
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Fixtures being built; other threads requesting the same key wait for them. */
+  private final HashMap<Key, Pending> pending = new HashMap<>();
+
+  /** The total size of strongly referenced entries. */
+  private long strongSize;
+
+  FixtureCacheImpl(RandomizedContext rootContext, long budget) {
+    if (budget < 0) {
+      throw new IllegalArgumentException("Fixture budget must not be negative: " + budget);
+    }
+    this.rootContext = rootContext;
+    this.budget = budget;
+  }
+
+  @Override
+  public <T> T computeIfAbsent(
+      String generatorId,
+      Object parameters,
+      Function<Random, ? extends T> generator,
+      ToLongFunction<? super T> sizeInBytes) {
+    Objects.requireNonNull(generatorId);
+    Objects.requireNonNull(parameters);
+
+    var key = new Key(rootContext.getRootSeed(), generatorId, parameters);
+    CompletableFuture<Object> built;
+    synchronized (this) {
+      var entry = entries.get(key);
+      if (entry != null) {
+        @SuppressWarnings("unchecked")
+        var value = (T) entry.soft.get();
+        if (value != null) {
+          if (entry.strong == null) {
+            retain(entry, value);
+          }
+          return value;
+        }
+        entries.remove(key);
+      }
+
+      var inProgress = pending.get(key);
+      if (inProgress != null) {
+        if (inProgress.builder() == Thread.currentThread()) {
+          throw new IllegalStateException("Recursive build of fixture " + key);
+        }
+        built = inProgress.value();
+      } else {
+        built = null;
+        pending.put(key, new Pending(Thread.currentThread(), new CompletableFuture<>()));
+      }
+    }
+
+    if (built != null) {
+      return awaitBuilt(built);
+    }
+    return build(key, generator, sizeInBytes);
+  }
+
+  /** Builds the fixture (with no lock held) and publishes it to the waiting threads. */
+  private <T> T build(
+      Key key, Function<Random, ? extends T> generator, ToLongFunction<? super T> sizeInBytes) {
+    T value;
+    long size;
+    try {
+      // Fixtures depend on the key only, never on the test that happens to build them.
+      var seed =
+          new Seed(
+              Hashing.hash(
+                  Hashing.hash(key.rootSeed().value() ^ Hashing.hash(key.generatorId()))
+                      ^ Hashing.hash(key.parameters().toString())));
+      value = Objects.requireNonNull(generator.apply(rootContext.splitRandom(seed)));
+      size = sizeInBytes.applyAsLong(value);
+      if (size < 0) {
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "Negative size of fixture %s: %d", key, size));
+      }
+    } catch (RuntimeException | Error e) {
+      synchronized (this) {
+        pending.remove(key).value().completeExceptionally(e);
+      }
+      throw e;
+    }
+
+    synchronized (this) {
+      var entry = new Entry(value, size);
+      entries.put(key, entry);
+      retain(entry, value);
+      pending.remove(key).value().complete(value);
+    }
+    return value;
+  }
+
+  /** Waits for a fixture built by another thread, rethrowing its builder's failure. */
+  @SuppressWarnings("unchecked")
+  private static <T> T awaitBuilt(CompletableFuture<Object> built) {
+    try {
+      return (T) built.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      if (e.getCause() instanceof Error err) {
+        throw err;
+      }
+      throw e;
+    }
+  }
+
+  /** Strongly references an entry (if it fits in the budget), evicting the least recently used. */
+  private void retain(Entry entry, Object value) {
+    if (entry.size > budget) {
+      return;
+    }
+
+    entry.strong = value;
+    strongSize += entry.size;
+    for (Iterator<Entry> i = entries.values().iterator(); strongSize > budget && i.hasNext(); ) {
+      var e = i.next();
+      if (e != entry && e.strong != null) {
+        e.strong = null;
+        strongSize -= e.size;
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    entries.clear();
+    strongSize = 0;
+  }
+}
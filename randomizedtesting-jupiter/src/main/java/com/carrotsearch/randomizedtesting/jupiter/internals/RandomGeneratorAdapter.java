@@ -0,0 +1,94 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Exposes a {@link RandomGenerator} through the {@link Random} API. Not synchronized (anywhere),
+ * all calls go straight to the delegate.
+ */
+public final class RandomGeneratorAdapter extends Random {
+  private final RandomGenerator delegate;
+
+  public RandomGeneratorAdapter(RandomGenerator delegate) {
+    // Must be here, the only Random constructor. Has side-effects on setSeed, see below.
+    super(0);
+    this.delegate = Objects.requireNonNull(delegate);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    // Called from super constructor and observing uninitialized state?
+    if (delegate == null) {
+      return;
+    }
+
+    throw AssertingRandom.noSetSeed();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return delegate.nextBoolean();
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    delegate.nextBytes(bytes);
+  }
+
+  @Override
+  public double nextDouble() {
+    return delegate.nextDouble();
+  }
+
+  @Override
+  public float nextFloat() {
+    return delegate.nextFloat();
+  }
+
+  @Override
+  public double nextGaussian() {
+    return delegate.nextGaussian();
+  }
+
+  @Override
+  public double nextExponential() {
+    return delegate.nextExponential();
+  }
+
+  @Override
+  public int nextInt() {
+    return delegate.nextInt();
+  }
+
+  @Override
+  public int nextInt(int n) {
+    return delegate.nextInt(n);
+  }
+
+  @Override
+  public long nextLong() {
+    return delegate.nextLong();
+  }
+
+  @Override
+  public long nextLong(long bound) {
+    return delegate.nextLong(bound);
+  }
+
+  @Override
+  protected int next(int bits) {
+    return delegate.nextInt() >>> (32 - bits);
+  }
+
+  /** Returns the adapted generator. */
+  RandomGenerator delegate() {
+    return delegate;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + delegate.getClass().getSimpleName() + "]";
+  }
+}
@@ -0,0 +1,134 @@
+package com.carrotsearch.randomizedtesting.jupiter.internals;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomByteArray;
+import com.carrotsearch.randomizedtesting.jupiter.RandomInt;
+import com.carrotsearch.randomizedtesting.jupiter.RandomString;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import com.carrotsearch.randomizedtesting.jupiter.generators.StringGenerator;
+import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+/**
+ * Resolves parameters annotated with {@link RandomInt}, {@link RandomByteArray} or {@link
+ * RandomString}. The annotation, bounds and generator of each {@link Parameter} are looked up once
+ * and cached so that resolving a parameter for subsequent invocations involves no reflection.
+ */
+final class RandomParameters {
+  /** Draws the value of a parameter. */
+  private interface ValueSource {
+    Object draw(Random random);
+  }
+
+  /** A marker for parameters without any of the supported annotations. */
+  private static final ValueSource UNSUPPORTED =
+      random -> {
+        throw new AssertionError("Unsupported parameter.");
+      };
+
+  private final ConcurrentHashMap<Parameter, ValueSource> sources = new ConcurrentHashMap<>();
+
+  boolean supports(Parameter parameter) {
+    return sourceFor(parameter) != UNSUPPORTED;
+  }
+
+  Object resolve(Parameter parameter, Random random) {
+    return sourceFor(parameter).draw(random);
+  }
+
+  private ValueSource sourceFor(Parameter parameter) {
+    return sources.computeIfAbsent(parameter, RandomParameters::createSource);
+  }
+
+  private static ValueSource createSource(Parameter parameter) {
+    var type = parameter.getType();
+
+    var randomInt = parameter.getAnnotation(RandomInt.class);
+    if (randomInt != null) {
+      checkType(parameter, RandomInt.class, type == int.class || type == Integer.class);
+      int min = randomInt.min();
+      int max = randomInt.max();
+      checkBounds(parameter, Integer.MIN_VALUE, min, max);
+      return random -> RandomNumbers.randomIntInRange(random, min, max);
+    }
+
+    var randomBytes = parameter.getAnnotation(RandomByteArray.class);
+    if (randomBytes != null) {
+      int length = randomBytes.value();
+      checkBounds(parameter, 0, length, length);
+      if (type == byte[].class) {
+        return random -> RandomBytes.randomBytesOfLength(random, length);
+      }
+      checkType(parameter, RandomByteArray.class, type == ByteBuffer.class);
+      if (randomBytes.direct()) {
+        return random -> RandomBytes.randomDirectBytesOfLength(random, length);
+      } else {
+        return random -> ByteBuffer.wrap(RandomBytes.randomBytesOfLength(random, length));
+      }
+    }
+
+    var randomString = parameter.getAnnotation(RandomString.class);
+    if (randomString != null) {
+      checkType(parameter, RandomString.class, type == String.class);
+      int min = randomString.min();
+      int max = randomString.max();
+      checkBounds(parameter, 0, min, max);
+      var generator = createGenerator(parameter, randomString.generator());
+      if (randomString.codePoints()) {
+        return random -> generator.ofCodePointsLength(random, min, max);
+      } else {
+        return random -> generator.ofCodeUnitsLength(random, min, max);
+      }
+    }
+
+    return UNSUPPORTED;
+  }
+
+  private static StringGenerator createGenerator(
+      Parameter parameter, Class<? extends StringGenerator> generatorClass) {
+    try {
+      return generatorClass.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new ParameterResolutionException(
+          String.format(
+              Locale.ROOT,
+              "Could not create the string generator %s (a public no-argument constructor is"
+                  + " required) for parameter: %s",
+              generatorClass.getName(),
+              describe(parameter)),
+          e);
+    }
+  }
+
+  private static void checkType(Parameter parameter, Class<?> annotation, boolean supported) {
+    if (!supported) {
+      throw new ParameterResolutionException(
+          String.format(
+              Locale.ROOT,
+              "@%s is not applicable to parameter type %s: %s",
+              annotation.getSimpleName(),
+              parameter.getType().getName(),
+              describe(parameter)));
+    }
+  }
+
+  private static void checkBounds(Parameter parameter, int lowest, int min, int max) {
+    if (min < lowest || max < min) {
+      throw new ParameterResolutionException(
+          String.format(
+              Locale.ROOT,
+              "Invalid bounds [%d, %d] for parameter: %s",
+              min,
+              max,
+              describe(parameter)));
+    }
+  }
+
+  private static String describe(Parameter parameter) {
+    return parameter + " of " + parameter.getDeclaringExecutable();
+  }
+}
@@ -1,7 +1,11 @@
 package com.carrotsearch.randomizedtesting.jupiter.internals;
 
 import com.carrotsearch.randomizedtesting.jupiter.Constants;
+import com.carrotsearch.randomizedtesting.jupiter.CorpusCache;
+import com.carrotsearch.randomizedtesting.jupiter.FixtureCache;
+import com.carrotsearch.randomizedtesting.jupiter.Hashing;
 import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider;
 import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
 import com.carrotsearch.randomizedtesting.jupiter.Seed;
 import com.carrotsearch.randomizedtesting.jupiter.SeedChain;
@@ -10,6 +14,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +40,17 @@ public class RandomizedContextExtension
 
   private static final String CTX_KEY_RANDOMIZED_CONTEXT = "randomizedContext";
 
+  private static final String CTX_KEY_RANDOM_PARAMETERS = "randomParameters";
+
+  private static final String CTX_KEY_PARAMETER_RANDOM = "parameterRandom";
+
+  /** Mixed into the context's seed to derive the seed of its parameter random. */
+  private static final long PARAMETER_RANDOM_SALT = Hashing.hash(CTX_KEY_PARAMETER_RANDOM);
+
+  private static final String CTX_KEY_FIXTURE_CACHE = "fixtureCache";
+
+  private static final String CTX_KEY_CORPUS_CACHE = "corpusCache";
+
   //
   // before-all (class-level context setup).
   //
@@ -69,25 +85,51 @@ public class RandomizedContextExtension
   }
 
   private static LongFunction<Random> initializeRandomFactory(ExtensionContext extensionContext) {
-    var randomFactory =
-        extensionContext
-            .getConfigurationParameter(SysProps.TESTS_RANDOM_FACTORY.propertyKey)
-            .map(RandomInstanceFactory::parse)
-            .orElse(RandomInstanceFactory.XOROSHIRO_128_PLUS)
-            .get();
+    var randomFactory = randomInstanceProvider(extensionContext).get();
 
     if (extensionContext
         .getConfigurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey)
         .map(Boolean::parseBoolean)
         .orElse(RandomizedContextExtension.class.desiredAssertionStatus())) {
+      var stackCapture =
+          extensionContext
+              .getConfigurationParameter(SysProps.TESTS_RANDOM_ALLOCATION_STACK.propertyKey)
+              .map(AllocationStackCapture::parse)
+              .orElse(AllocationStackCapture.TRUNCATED);
+      var sampling =
+          extensionContext
+              .getConfigurationParameter(SysProps.TESTS_RANDOM_ASSERTING_SAMPLING.propertyKey)
+              .map(Integer::parseInt)
+              .orElse(0);
+      var delegateFactory = randomFactory;
+      randomFactory =
+          seed ->
+              new AssertingRandom(
+                  Thread.currentThread(), delegateFactory.apply(seed), stackCapture, sampling);
+    }
+
+    if (extensionContext
+        .getConfigurationParameter(SysProps.TESTS_RANDOM_BUFFERED.propertyKey)
+        .map(Boolean::parseBoolean)
+        .orElse(false)) {
       var delegateFactory = randomFactory;
       randomFactory =
-          seed -> new AssertingRandom(Thread.currentThread(), delegateFactory.apply(seed));
+          seed -> {
+            var random = delegateFactory.apply(seed);
+            return BufferedRandom.canBuffer(random) ? new BufferedRandom(random) : random;
+          };
     }
 
     return randomFactory;
   }
 
+  private static RandomInstanceProvider randomInstanceProvider(ExtensionContext extensionContext) {
+    return extensionContext
+        .getConfigurationParameter(SysProps.TESTS_RANDOM_FACTORY.propertyKey)
+        .map(RandomInstanceProvider::forName)
+        .orElse(RandomInstanceFactory.XOROSHIRO_128_PLUS);
+  }
+
   /**
    * @return Returns the constant root seed, initialized from an optional configuration parameter.
    */
@@ -104,7 +146,8 @@ public class RandomizedContextExtension
   }
 
   //
-  // ParameterResolver: inject RandomizedContext and Random instances into test methods.
+  // ParameterResolver: inject RandomizedContext and Random instances (and random values of
+  // annotated parameters) into test methods.
   //
   private static final Type supplierOfRandom = getSupplierOfRandomType();
 
@@ -126,7 +169,82 @@ public class RandomizedContextExtension
     var type = parameterContext.getParameter().getParameterizedType();
     return type.equals(RandomizedContext.class)
         || type.equals(Random.class)
-        || type.equals(supplierOfRandom);
+        || type.equals(supplierOfRandom)
+        || type.equals(FixtureCache.class)
+        || type.equals(CorpusCache.class)
+        || randomParameters(extensionContext).supports(parameterContext.getParameter());
+  }
+
+  /**
+   * @return Returns the (cached) resolver of annotated random parameters, shared by all iterations
+   *     of an execution request.
+   */
+  private static RandomParameters randomParameters(ExtensionContext extensionContext) {
+    return extensionContext
+        .getStore(ExtensionContext.StoreScope.EXECUTION_REQUEST, EXTENSION_NAMESPACE)
+        .computeIfAbsent(
+            CTX_KEY_RANDOM_PARAMETERS, unused -> new RandomParameters(), RandomParameters.class);
+  }
+
+  /**
+   * @return Returns the random that annotated parameters of the given context draw their values
+   *     from, created on first use. It is split from the randomized context with a seed derived
+   *     from the context's own, so that injected values don't consume {@link
+   *     RandomizedContext#getRandom()} or {@link RandomizedContext#splitRandom()} draws.
+   */
+  private static Random parameterRandom(
+      ExtensionContext extensionContext, RandomizedContextImpl ctx) {
+    return extensionContext
+        .getStore(ExtensionContext.StoreScope.EXTENSION_CONTEXT, EXTENSION_NAMESPACE)
+        .computeIfAbsent(
+            CTX_KEY_PARAMETER_RANDOM,
+            unused -> {
+              var seed = ctx.getSeedChain().seeds().getLast().value();
+              return ctx.splitRandom(new Seed(Hashing.hash(seed ^ PARAMETER_RANDOM_SALT)));
+            },
+            Random.class);
+  }
+
+  /**
+   * @return Returns the fixture cache of the root context, stored next to it.
+   */
+  private static FixtureCacheImpl fixtureCache(ExtensionContext extensionContext) {
+    var root = extensionContext.getRoot();
+    return root.getStore(EXTENSION_NAMESPACE)
+        .computeIfAbsent(
+            CTX_KEY_FIXTURE_CACHE,
+            unused ->
+                new FixtureCacheImpl(
+                    getRandomizedContextFor(root),
+                    root.getConfigurationParameter(SysProps.TESTS_FIXTURES_BUDGET.propertyKey)
+                        .map(ByteSizes::parse)
+                        .orElse(Runtime.getRuntime().maxMemory() / 4)),
+            FixtureCacheImpl.class);
+  }
+
+  /**
+   * @return Returns the corpus cache of the root context, stored next to it.
+   */
+  private static CorpusCacheImpl corpusCache(ExtensionContext extensionContext) {
+    var root = extensionContext.getRoot();
+    return root.getStore(EXTENSION_NAMESPACE)
+        .computeIfAbsent(
+            CTX_KEY_CORPUS_CACHE,
+            unused ->
+                new CorpusCacheImpl(
+                    getRandomizedContextFor(root),
+                    randomInstanceProvider(root).name(),
+                    root.getConfigurationParameter(SysProps.TESTS_CORPUS_DIR.propertyKey)
+                        .map(Path::of)
+                        .orElseGet(
+                            () ->
+                                Path.of(
+                                    System.getProperty("java.io.tmpdir"),
+                                    "randomizedtesting-corpora")),
+                    root.getConfigurationParameter(SysProps.TESTS_CORPUS_MAX_SIZE.propertyKey)
+                        .map(ByteSizes::parse)
+                        .orElse(16L << 30)),
+            CorpusCacheImpl.class);
   }
 
   @Override
@@ -141,6 +259,13 @@ public class RandomizedContextExtension
       return ctx.getRandom();
     } else if (type.equals(supplierOfRandom)) {
       return (Supplier<Random>) ctx::splitRandom;
+    } else if (type.equals(FixtureCache.class)) {
+      return fixtureCache(extensionContext);
+    } else if (type.equals(CorpusCache.class)) {
+      return corpusCache(extensionContext);
+    } else if (randomParameters(extensionContext).supports(parameterContext.getParameter())) {
+      return randomParameters(extensionContext)
+          .resolve(parameterContext.getParameter(), parameterRandom(extensionContext, ctx));
     } else {
       throw new RuntimeException(
           "Unexpected unsupported parameter type in resolveParameter: " + type);
@@ -175,13 +300,27 @@ public class RandomizedContextExtension
 
   private static <T> T wrapInvoke(Invocation<T> invocation, ExtensionContext context)
       throws Throwable {
+    // Bind the context for RandomizedContext.current(), if the root context exists already
+    // (test class constructors may be invoked before beforeAll).
+    var previous =
+        RandomizedContextImpl.bind(
+            hasRootContext(context) ? getRandomizedContextFor(context) : null);
     try {
       return invocation.proceed();
     } catch (Throwable throwable) {
       throw addSeedChainStackFrame(throwable, getRandomizedContextFor(context).getSeedChain());
+    } finally {
+      RandomizedContextImpl.bind(previous);
     }
   }
 
+  private static boolean hasRootContext(ExtensionContext extensionContext) {
+    return extensionContext
+            .getStore(ExtensionContext.StoreScope.EXTENSION_CONTEXT, EXTENSION_NAMESPACE)
+            .get(CTX_KEY_RANDOMIZED_CONTEXT, RandomizedContextImpl.class)
+        != null;
+  }
+
   @Override
   public <T> T interceptTestClassConstructor(
       Invocation<T> invocation,
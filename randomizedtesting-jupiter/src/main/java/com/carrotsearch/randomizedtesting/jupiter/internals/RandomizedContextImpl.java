@@ -9,22 +9,43 @@ import com.carrotsearch.randomizedtesting.jupiter.SeedChain;
 import com.carrotsearch.randomizedtesting.jupiter.SysProps;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.platform.engine.UniqueId;
 
 public final class RandomizedContextImpl implements Closeable, RandomizedContext {
+  /** The context bound to the thread by {@link #bind(RandomizedContextImpl)}. */
+  private static final ThreadLocal<RandomizedContextImpl> CURRENT = new ThreadLocal<>();
+
+  private static final char UNIQUE_ID_SEPARATOR = '/';
+
+  /** The unique id prefix of the engine segment of {@link RepeatExecutionTestEngine}. */
+  private static final String REPEAT_ENGINE_PREFIX =
+      UniqueId.forEngine(RepeatExecutionTestEngine.ENGINE_ID).toString() + UNIQUE_ID_SEPARATOR;
+
   private final RandomizedContextImpl parent;
   private final Seed seed;
   final String contextId;
 
   private final SeedChain remainingSeedChain;
 
+  /** The (immutable) seed chain from the root context to this one and its first element. */
+  private final SeedChain seedChain;
+
+  private final Seed rootSeed;
+
+  /** The number of {@link #splitRandom()} calls so far (the index of the next split). */
+  private final AtomicLong splits = new AtomicLong();
+
   private final Random random;
   private final LongFunction<Random> randomFactory;
 
@@ -41,6 +62,17 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
 
     assert !seed.isUnspecified();
     this.seed = seed;
+
+    if (parent == null) {
+      this.seedChain = new SeedChain(List.of(seed));
+    } else {
+      var parentSeeds = parent.seedChain.seeds();
+      var seeds = parentSeeds.toArray(new Seed[parentSeeds.size() + 1]);
+      seeds[seeds.length - 1] = seed;
+      this.seedChain = new SeedChain(Collections.unmodifiableList(Arrays.asList(seeds)));
+    }
+    this.rootSeed = seedChain.seeds().getFirst();
+
     this.random = randomFactory.apply(seed.value());
   }
 
@@ -51,12 +83,7 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
 
   @Override
   public SeedChain getSeedChain() {
-    ArrayList<Seed> seeds = new ArrayList<>();
-    for (RandomizedContextImpl c = this; c != null; c = c.getParent()) {
-      seeds.add(c.seed);
-    }
-    Collections.reverse(seeds);
-    return new SeedChain(seeds);
+    return seedChain;
   }
 
   private RandomizedContextImpl getParent() {
@@ -69,7 +96,7 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
    */
   @Override
   public Seed getRootSeed() {
-    return getSeedChain().seeds().getFirst();
+    return rootSeed;
   }
 
   @Override
@@ -79,7 +106,63 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
 
   @Override
   public Random splitRandom() {
-    return splitRandom(getSeedChain().seeds().getLast());
+    return splitRandom(nextSplitSeed());
+  }
+
+  private Seed nextSplitSeed() {
+    var index = splits.getAndIncrement();
+    return new Seed(Hashing.hash(seed.value() ^ Hashing.hash(index)));
+  }
+
+  @Override
+  public Runnable withSplitContext(Runnable task) {
+    var splitSeed = nextSplitSeed();
+    return () -> {
+      var child =
+          new RandomizedContextImpl(
+              contextId + "/split[" + splitSeed + "]",
+              this,
+              randomFactory,
+              splitSeed,
+              remainingSeedChain);
+      var previous = bind(child);
+      try {
+        task.run();
+      } finally {
+        bind(previous);
+        try {
+          child.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * @see RandomizedContext#current()
+   */
+  public static RandomizedContext current() {
+    var ctx = CURRENT.get();
+    if (ctx == null) {
+      throw new IllegalStateException(
+          "No randomized context is bound to thread "
+              + Thread.currentThread()
+              + " (outside of @Randomized tests and hooks or in a thread started without"
+              + " RandomizedContext.withSplitContext).");
+    }
+    return ctx;
+  }
+
+  /**
+   * Binds the given context (possibly {@code null}) to the calling thread.
+   *
+   * @return Returns the previously bound context (possibly {@code null}), to be restored later.
+   */
+  static RandomizedContextImpl bind(RandomizedContextImpl ctx) {
+    var previous = CURRENT.get();
+    CURRENT.set(ctx);
+    return previous;
   }
 
   @Override
@@ -87,8 +170,38 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
     return randomFactory.apply(seed.value());
   }
 
+  @Override
+  public Random substreamRandom(long index) {
+    if (index < 0) {
+      throw new IllegalArgumentException("Substream index must not be negative: " + index);
+    }
+
+    var random = randomFactory.apply(seed.value());
+    if (unwrap(random) instanceof RandomGenerator.JumpableGenerator jumpable) {
+      for (long i = 0; i <= index; i++) {
+        jumpable.jump();
+      }
+      return random;
+    } else {
+      return randomFactory.apply(seed.value() ^ Hashing.hash(index + 1));
+    }
+  }
+
+  private static RandomGenerator unwrap(Random random) {
+    if (random instanceof BufferedRandom buffered) {
+      random = buffered.delegate();
+    }
+    if (random instanceof AssertingRandom asserting) {
+      random = asserting.delegate();
+    }
+    if (random instanceof RandomGeneratorAdapter adapter) {
+      return adapter.delegate();
+    }
+    return random;
+  }
+
   RandomizedContextImpl deriveNew(ExtensionContext extensionContext) {
-    // sanity check.
+    // sanity check. This walks the parent chain, so it is O(depth) for every derived context.
     {
       var id = extensionContext.getUniqueId();
       for (var ctx = this; ctx != null; ctx = ctx.getParent()) {
@@ -121,25 +234,31 @@ public final class RandomizedContextImpl implements Closeable, RandomizedContext
     var nextSeed = firstAndRest.first();
     var remainingChain = firstAndRest.rest();
     if (nextSeed.isUnspecified()) {
-      var uniqueId = UniqueId.parse(extensionContext.getUniqueId());
-      var strippedId = uniqueId.toString();
-      if (Objects.equals(
-          RepeatExecutionTestEngine.ENGINE_ID, uniqueId.getEngineId().orElse(null))) {
-        var segments = uniqueId.getSegments();
-        segments = segments.subList(2, segments.size());
-        var stripped = UniqueId.root(segments.getFirst().getType(), segments.getFirst().getValue());
-        for (int i = 1; i < segments.size(); i++) {
-          stripped = stripped.append(segments.get(i));
-        }
-        strippedId = stripped.toString();
-      }
-      nextSeed = new Seed(this.seed.value() ^ Hashing.hash(strippedId));
+      var uniqueId = extensionContext.getUniqueId();
+      nextSeed =
+          new Seed(this.seed.value() ^ Hashing.hash(uniqueId.substring(strippedIdStart(uniqueId))));
     }
 
     return new RandomizedContextImpl(
         extensionContext.getUniqueId(), this, randomFactory, nextSeed, remainingChain);
   }
 
+  /**
+   * Returns the start of the unique id with the engine and reiteration segments of {@link
+   * RepeatExecutionTestEngine} stripped, so that each iteration of a test gets the same seed. This
+   * works on the string form directly: the prefix is constant (the reiteration number is the only
+   * variable part and has no encoded characters) and parsing and rebuilding the {@link UniqueId}
+   * for every test is costly with many iterations.
+   */
+  private static int strippedIdStart(String uniqueId) {
+    if (!uniqueId.startsWith(REPEAT_ENGINE_PREFIX)) {
+      return 0;
+    }
+    int reiterationEnd = uniqueId.indexOf(UNIQUE_ID_SEPARATOR, REPEAT_ENGINE_PREFIX.length());
+    assert reiterationEnd > 0 : "Unexpected unique id: " + uniqueId;
+    return reiterationEnd + 1;
+  }
+
   @Override
   public void close() throws IOException {
     if (random instanceof Closeable c) {
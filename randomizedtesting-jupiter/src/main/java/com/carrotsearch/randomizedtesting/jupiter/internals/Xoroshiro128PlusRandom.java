@@ -1,23 +1,28 @@
 package com.carrotsearch.randomizedtesting.jupiter.internals;
 
 import com.carrotsearch.randomizedtesting.jupiter.Hashing;
-import java.util.Random;
+import com.carrotsearch.randomizedtesting.jupiter.generators.LongBasedRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements Xoroshiro128PlusRandom. Not synchronized (anywhere).
  *
+ * <p>The generator can {@link #jump()} ahead by 2<sup>64</sup> and {@link #longJump()} ahead by
+ * 2<sup>96</sup> draws, which splits its period into non-overlapping substreams.
+ *
  * @see "https://prng.di.unimi.it/"
  */
-public final class Xoroshiro128PlusRandom extends Random {
-  private static final double DOUBLE_UNIT = 0x1.0p-53; // 1.0 / (1L << 53);
-  private static final float FLOAT_UNIT = 0x1.0p-24f; // 1.0 / (1L << 24);
+public final class Xoroshiro128PlusRandom extends LongBasedRandom
+    implements RandomGenerator.LeapableGenerator {
+  /** Jump polynomial for 2^64 steps (for the 55/14/36 parameters). */
+  private static final long[] JUMP = {0xbeac0467eba5facbL, 0xd86b048b86aa9922L};
+
+  /** Jump polynomial for 2^96 steps (for the 55/14/36 parameters). */
+  private static final long[] LONG_JUMP = {0x18f7c399ccebda8dL, 0xf2deac28bef3bb07L};
 
   private long s0, s1;
 
   public Xoroshiro128PlusRandom(long seed) {
-    // Must be here, the only Random constructor. Has side-effects on setSeed, see below.
-    super(0);
-
     s0 = Hashing.hash(seed);
     s1 = Hashing.hash(s0);
 
@@ -27,71 +32,124 @@ public final class Xoroshiro128PlusRandom extends Random {
     }
   }
 
+  private Xoroshiro128PlusRandom(long s0, long s1) {
+    this.s0 = s0;
+    this.s1 = s1;
+  }
+
   @Override
-  public void setSeed(long seed) {
-    // Called from super constructor and observing uninitialized state?
-    if (s0 == 0 && s1 == 0) {
-      return;
+  public long nextLong() {
+    final long s0 = this.s0;
+    long s1 = this.s1;
+    final long result = s0 + s1;
+    s1 ^= s0;
+    this.s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
+    this.s1 = Long.rotateLeft(s1, 36);
+    return result;
+  }
+
+  /**
+   * Fills the given range of the array with consecutive {@link #nextLong()} values. The state is
+   * kept in locals for the duration of the loop.
+   */
+  void fill(long[] array, int fromIndex, int toIndex) {
+    long s0 = this.s0, s1 = this.s1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = s0 + s1;
+      s1 ^= s0;
+      s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
+      s1 = Long.rotateLeft(s1, 36);
     }
+    this.s0 = s0;
+    this.s1 = s1;
+  }
 
-    throw AssertingRandom.noSetSeed();
+  /** Fills the given range of the array with consecutive {@link #nextInt()} values. */
+  void fill(int[] array, int fromIndex, int toIndex) {
+    long s0 = this.s0, s1 = this.s1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = (int) (s0 + s1);
+      s1 ^= s0;
+      s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
+      s1 = Long.rotateLeft(s1, 36);
+    }
+    this.s0 = s0;
+    this.s1 = s1;
   }
 
-  @Override
-  public boolean nextBoolean() {
-    return nextLong() >= 0;
+  /** Fills the given range of the array with consecutive {@link #nextDouble()} values. */
+  void fill(double[] array, int fromIndex, int toIndex) {
+    long s0 = this.s0, s1 = this.s1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = ((s0 + s1) >>> 11) * DOUBLE_UNIT;
+      s1 ^= s0;
+      s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
+      s1 = Long.rotateLeft(s1, 36);
+    }
+    this.s0 = s0;
+    this.s1 = s1;
   }
 
-  @Override
-  public void nextBytes(byte[] bytes) {
-    for (int i = 0, len = bytes.length; i < len; ) {
-      long rnd = nextInt();
-      for (int n = Math.min(len - i, 8); n-- > 0; rnd >>>= 8) {
-        bytes[i++] = (byte) rnd;
-      }
+  /** Fills the given range of the array with consecutive {@link #nextFloat()} values. */
+  void fill(float[] array, int fromIndex, int toIndex) {
+    long s0 = this.s0, s1 = this.s1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = (((int) (s0 + s1)) >>> 8) * FLOAT_UNIT;
+      s1 ^= s0;
+      s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
+      s1 = Long.rotateLeft(s1, 36);
     }
+    this.s0 = s0;
+    this.s1 = s1;
   }
 
+  /** Advances the state by 2<sup>64</sup> calls to {@link #nextLong()}. */
   @Override
-  public double nextDouble() {
-    return (nextLong() >>> 11) * DOUBLE_UNIT;
+  public void jump() {
+    jump(JUMP);
   }
 
-  @Override
-  public float nextFloat() {
-    return (nextInt() >>> 8) * FLOAT_UNIT;
+  /** Advances the state by 2<sup>96</sup> calls to {@link #nextLong()}. */
+  public void longJump() {
+    jump(LONG_JUMP);
   }
 
+  /** Same as {@link #longJump()}. */
   @Override
-  public int nextInt() {
-    return (int) nextLong();
+  public void leap() {
+    longJump();
   }
 
   @Override
-  public int nextInt(int n) {
-    // Leave superclass's implementation.
-    return super.nextInt(n);
+  public double jumpDistance() {
+    return 0x1.0p64;
   }
 
   @Override
-  public double nextGaussian() {
-    // Leave superclass's implementation.
-    return super.nextGaussian();
+  public double leapDistance() {
+    return 0x1.0p96;
   }
 
+  /**
+   * @return Returns a new generator with an identical state.
+   */
   @Override
-  public long nextLong() {
-    final long s0 = this.s0;
-    long s1 = this.s1;
-    final long result = s0 + s1;
-    s1 ^= s0;
-    this.s0 = Long.rotateLeft(s0, 55) ^ s1 ^ s1 << 14;
-    this.s1 = Long.rotateLeft(s1, 36);
-    return result;
+  public Xoroshiro128PlusRandom copy() {
+    return new Xoroshiro128PlusRandom(s0, s1);
   }
 
-  @Override
-  protected int next(int bits) {
-    return ((int) nextLong()) >>> (32 - bits);
+  private void jump(long[] polynomial) {
+    long j0 = 0, j1 = 0;
+    for (long word : polynomial) {
+      for (int b = 0; b < 64; b++) {
+        if ((word & (1L << b)) != 0) {
+          j0 ^= s0;
+          j1 ^= s1;
+        }
+        nextLong();
+      }
+    }
+    this.s0 = j0;
+    this.s1 = j1;
   }
 }
@@ -16,6 +16,8 @@ module com.carrotsearch.randomizedtesting {
   provides org.junit.jupiter.api.extension.Extension with
       com.carrotsearch.randomizedtesting.jupiter.internals.RandomizedContextExtension;
 
+  uses com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider;
+
   // These entries install support for tests.iters (RepeatedExecutionTestEngine).
   requires org.junit.platform.engine;
 
@@ -4,21 +4,34 @@ import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
 import static org.junit.platform.testkit.engine.EventConditions.*;
 
 import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider;
+import com.carrotsearch.randomizedtesting.jupiter.RandomOwnership;
 import com.carrotsearch.randomizedtesting.jupiter.Randomized;
 import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
 import com.carrotsearch.randomizedtesting.jupiter.Seed;
 import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import com.carrotsearch.randomizedtesting.tests.infra.CustomRandomProvider;
 import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -121,8 +134,7 @@ public class F003_RandomInjection {
         Assertions.assertThat(supplier).isNotNull();
         Assertions.assertThat(supplier.get()).isNotNull();
 
-        // ensure any threads that acquire a random from the supplier are started with
-        // the same initial seed.
+        // ensure any threads that acquire a random from the supplier get distinct streams.
         var firstLongs =
             IntStream.range(0, 5)
                 .mapToObj(
@@ -142,7 +154,36 @@ public class F003_RandomInjection {
                       }
                     })
                 .toList();
-        Assertions.assertThat(new HashSet<>(firstLongs)).hasSize(1);
+        Assertions.assertThat(new HashSet<>(firstLongs)).hasSize(5);
+      }
+    }
+
+    @Test
+    public void splitsAreReproducible() {
+      var outputs =
+          IntStream.range(0, 3)
+              .mapToObj(
+                  unused ->
+                      collectExecutionResults(
+                              testKitBuilder(T2.class)
+                                  .configurationParameter(
+                                      SysProps.TESTS_SEED.propertyKey, "deadbeef"))
+                          .capturedOutput())
+              .collect(Collectors.toSet());
+      Assertions.assertThat(outputs).hasSize(1);
+    }
+
+    @Randomized
+    static class T2 extends IgnoreInStandaloneRuns {
+      @Test
+      void testMethod(PrintWriter pw, Supplier<Random> supplier) {
+        var splits = new HashSet<Long>();
+        for (int i = 0; i < 10; i++) {
+          var first = supplier.get().nextLong();
+          splits.add(first);
+          pw.print(first + ",");
+        }
+        Assertions.assertThat(splits).hasSize(10);
       }
     }
   }
@@ -169,7 +210,7 @@ public class F003_RandomInjection {
 
     @TestFactory
     public Stream<DynamicTest> checkAllRandomFactories() {
-      return Stream.of(RandomInstanceFactory.values())
+      return RandomInstanceProvider.available().stream()
           .map(
               t -> {
                 return DynamicTest.dynamicTest(
@@ -197,6 +238,41 @@ public class F003_RandomInjection {
               });
     }
 
+    @Test
+    public void customProvidersAreDiscovered() {
+      Assertions.assertThat(RandomInstanceProvider.available())
+          .map(RandomInstanceProvider::name)
+          .contains(CustomRandomProvider.NAME);
+      Assertions.assertThat(
+              RandomInstanceProvider.forName(CustomRandomProvider.NAME.toUpperCase(Locale.ROOT))
+                  .get()
+                  .apply(0))
+          .isInstanceOf(CustomRandomProvider.CustomRandom.class);
+    }
+
+    @Test
+    public void unknownProviderNamesAreRejected() {
+      var customName = CustomRandomProvider.NAME;
+      var executionResult =
+          collectExecutionResults(
+              testKitBuilder(T1.class)
+                  .configurationParameter(
+                      SysProps.TESTS_RANDOM_FACTORY.propertyKey, "no_such_factory"));
+      executionResult
+          .results()
+          .allEvents()
+          .assertThatEvents()
+          .haveAtLeastOne(
+              event(
+                  finishedWithFailure(
+                      new Condition<>(
+                          t ->
+                              Stream.iterate(t, Objects::nonNull, Throwable::getCause)
+                                  .filter(e -> e instanceof IllegalArgumentException)
+                                  .anyMatch(e -> e.getMessage().contains(customName)),
+                          "lists valid factory names"))));
+    }
+
     @Randomized
     static class T1 extends IgnoreInStandaloneRuns {
       @Test
@@ -307,4 +383,315 @@ public class F003_RandomInjection {
       }
     }
   }
+
+  @Nested
+  class TestSamplingAssertions {
+    @Test
+    public void samplingRandomIsStillAsserting() {
+      for (var clazz :
+          List.of(TestRandomAssertions.T1.class, TestRandomAssertions.T2.class, T1.class)) {
+        collectExecutionResults(
+                testKitBuilder(clazz)
+                    .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true")
+                    .configurationParameter(
+                        SysProps.TESTS_RANDOM_ASSERTING_SAMPLING.propertyKey, "4"))
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+      }
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testSharingCaughtAfterWarmup(Random random) throws Exception {
+        for (int i = 0; i < 100; i++) {
+          random.nextLong();
+        }
+
+        var ex = new AtomicReference<Exception>();
+        var thread =
+            new Thread(
+                () -> {
+                  try {
+                    for (int i = 0; i < 1000; i++) {
+                      random.nextLong();
+                    }
+                  } catch (Exception e) {
+                    ex.set(e);
+                  }
+                });
+        thread.start();
+        thread.join();
+
+        Assertions.assertThat(ex.get())
+            .isNotNull()
+            .hasMessageContaining("This Random instance is tied to thread");
+      }
+    }
+  }
+
+  @Nested
+  class TestOwnershipHandoff {
+    @Test
+    public void handoffKeepsTheStream() {
+      for (var asserting : List.of("true", "false")) {
+        collectExecutionResults(
+                testKitBuilder(T1.class)
+                    .configurationParameter(
+                        SysProps.TESTS_RANDOM_ASSERTING.propertyKey, asserting))
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+      }
+    }
+
+    @Test
+    public void nonOwnersFail() {
+      for (var buffered : List.of("false", "true")) {
+        collectExecutionResults(
+                testKitBuilder(T2.class)
+                    .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true")
+                    .configurationParameter(SysProps.TESTS_RANDOM_BUFFERED.propertyKey, buffered))
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+      }
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testPipeline(RandomizedContext ctx, Random random) throws Exception {
+        var expected = ctx.splitRandom(ctx.getSeedChain().seeds().getLast());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+          for (int stage = 0; stage < 5; stage++) {
+            Assertions.assertThat(random.nextLong()).isEqualTo(expected.nextLong());
+            var value = executor.submit(RandomOwnership.handOff(random, random::nextLong)).get();
+            Assertions.assertThat(value).isEqualTo(expected.nextLong());
+            RandomOwnership.acquire(random);
+          }
+        }
+      }
+    }
+
+    @Randomized
+    static class T2 extends IgnoreInStandaloneRuns {
+      @Test
+      void testReleasedRandomCannotBeUsed(Random random) {
+        // In buffered mode, this draw leaves buffered values that release must discard.
+        random.nextLong();
+        RandomOwnership.release(random);
+        Assertions.assertThatThrownBy(random::nextLong)
+            .hasMessageContaining("has been released by its owner");
+        RandomOwnership.acquire(random);
+        random.nextLong();
+      }
+
+      @Test
+      void testOwnedRandomCannotBeAcquired(Random random) throws Exception {
+        RandomOwnership.release(random);
+        var acquired = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        var thread =
+            new Thread(
+                () -> {
+                  RandomOwnership.acquire(random);
+                  acquired.countDown();
+                  try {
+                    done.await();
+                  } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                  }
+                  RandomOwnership.release(random);
+                });
+        thread.start();
+        acquired.await();
+
+        Assertions.assertThatThrownBy(() -> RandomOwnership.acquire(random))
+            .hasMessageContaining("This Random instance is tied to thread");
+        Assertions.assertThatThrownBy(random::nextLong)
+            .hasMessageContaining("This Random instance is tied to thread");
+
+        done.countDown();
+        thread.join();
+        RandomOwnership.acquire(random);
+        random.nextLong();
+      }
+    }
+  }
+
+  @Nested
+  class TestAllocationStack {
+    @Test
+    public void allocationStackCaptureModes() {
+      var depths = new ArrayList<Integer>();
+      for (var mode : List.of("full", "truncated", "none")) {
+        var executionResult =
+            collectExecutionResults(
+                testKitBuilder(T1.class)
+                    .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true")
+                    .configurationParameter(
+                        SysProps.TESTS_RANDOM_ALLOCATION_STACK.propertyKey, mode));
+        executionResult
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+        Assertions.assertThat(executionResult.capturedOutput()).hasSize(1);
+        depths.add(Integer.parseInt(executionResult.capturedOutput().values().iterator().next()));
+      }
+
+      Assertions.assertThat(depths.get(0)).isGreaterThan(16);
+      Assertions.assertThat(depths.get(1)).isBetween(1, 16);
+      Assertions.assertThat(depths.get(2)).isZero();
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testMethod(PrintWriter pw, Random random) throws Exception {
+        var ex = new AtomicReference<Exception>();
+        var thread = new Thread(() -> ex.set(catchException(random::nextLong)));
+        thread.start();
+        thread.join();
+
+        Assertions.assertThat(ex.get()).hasMessageContaining("This Random instance is tied");
+        pw.print(ex.get().getCause().getStackTrace().length);
+      }
+
+      private static Exception catchException(Runnable r) {
+        try {
+          r.run();
+          return null;
+        } catch (Exception e) {
+          return e;
+        }
+      }
+    }
+  }
+
+  @Nested
+  class TestSubstreams {
+    @TestFactory
+    public Stream<DynamicTest> substreamsAreDeterministicAndDistinct() {
+      return Stream.of(RandomInstanceFactory.values())
+          .map(
+              t ->
+                  DynamicTest.dynamicTest(
+                      t.name(),
+                      () ->
+                          collectExecutionResults(
+                                  testKitBuilder(T1.class)
+                                      .configurationParameter(
+                                          SysProps.TESTS_RANDOM_FACTORY.propertyKey,
+                                          t.name().toLowerCase(Locale.ROOT)))
+                              .results()
+                              .allEvents()
+                              .assertThatEvents()
+                              .doNotHave(event(finishedWithFailure()))));
+    }
+
+    @Test
+    public void xoroshiroJumpsAhead() {
+      var seed = 0xdeadbeefL;
+      var random = RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(seed);
+      var jumpable = (RandomGenerator.LeapableGenerator) random;
+      Assertions.assertThat(jumpable.jumpDistance()).isEqualTo(0x1.0p64);
+      Assertions.assertThat(jumpable.leapDistance()).isEqualTo(0x1.0p96);
+
+      var copy = jumpable.copy();
+      Assertions.assertThat(copy.nextLong()).isEqualTo(random.nextLong());
+
+      var jumped = jumpable.copy();
+      jumped.jump();
+      var leaped = jumpable.copy();
+      leaped.leap();
+      Assertions.assertThat(Set.of(jumped.nextLong(), leaped.nextLong(), random.nextLong()))
+          .hasSize(3);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testSubstreams(RandomizedContext ctx) throws Exception {
+        var firstLongs = new HashSet<Long>();
+        firstLongs.add(ctx.splitRandom(ctx.getSeedChain().seeds().getLast()).nextLong());
+        for (int k = 0; k < 10; k++) {
+          var expected = ctx.substreamRandom(k).nextLong();
+          var fromThread = new AtomicReference<Long>();
+          var index = k;
+          var thread = new Thread(() -> fromThread.set(ctx.substreamRandom(index).nextLong()));
+          thread.start();
+          thread.join();
+          Assertions.assertThat(fromThread.get()).isEqualTo(expected);
+          firstLongs.add(expected);
+        }
+        Assertions.assertThat(firstLongs).hasSize(11);
+
+        Assertions.assertThatThrownBy(() -> ctx.substreamRandom(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Nested
+  class TestBufferedRandom {
+    @Test
+    public void bufferedDrawsAreIdentical() {
+      var results = new ArrayList<Map<String, String>>();
+      for (var buffered : List.of("false", "true")) {
+        var executionResult =
+            collectExecutionResults(
+                testKitBuilder(T1.class)
+                    .configurationParameter(SysProps.TESTS_SEED.propertyKey, "deadbeef")
+                    .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true")
+                    .configurationParameter(SysProps.TESTS_RANDOM_BUFFERED.propertyKey, buffered));
+        executionResult
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+        results.add(executionResult.capturedOutput());
+      }
+
+      Assertions.assertThat(results.get(0)).isNotEmpty().isEqualTo(results.get(1));
+    }
+
+    @Test
+    public void bufferedRandomIsStillAsserting() {
+      for (var clazz : List.of(TestRandomAssertions.T1.class, TestRandomAssertions.T2.class)) {
+        collectExecutionResults(
+                testKitBuilder(clazz)
+                    .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true")
+                    .configurationParameter(SysProps.TESTS_RANDOM_BUFFERED.propertyKey, "true"))
+            .results()
+            .allEvents()
+            .assertThatEvents()
+            .doNotHave(event(finishedWithFailure()));
+      }
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testMethod(PrintWriter pw, Random rnd) {
+        // Enough draws to cross several block refills.
+        for (int i = 0; i < 300; i++) {
+          pw.print(rnd.nextInt());
+          pw.print(rnd.nextLong());
+          pw.print(rnd.nextInt(1 + i));
+          pw.print(rnd.nextDouble());
+          pw.print(rnd.nextBoolean());
+          pw.print(rnd.nextGaussian());
+        }
+        var bytes = new byte[13];
+        rnd.nextBytes(bytes);
+        pw.print(Arrays.toString(bytes));
+      }
+    }
+  }
 }
@@ -2,9 +2,14 @@ package com.carrotsearch.randomizedtesting.tests;
 
 import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.testkit.engine.EventConditions.engine;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
 import com.carrotsearch.randomizedtesting.jupiter.Randomized;
 import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
@@ -14,9 +19,32 @@ import com.carrotsearch.randomizedtesting.jupiter.SysProps;
 import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
 import com.carrotsearch.randomizedtesting.tests.infra.TestInfra;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.testkit.engine.Events;
 
 /** Verifies that {@link RepeatExecutionTestEngine} correctly multiplies test execution. */
 public class F007_TestReiteration {
@@ -95,6 +123,367 @@ public class F007_TestReiteration {
         .hasSizeBetween(iterations - 2, iterations);
   }
 
+  @Test
+  void concurrentIterationsHaveTheSameSeedsAsSequentialOnes() {
+    var iterations = 8;
+    var outputs = new ArrayList<Map<String, String>>();
+    for (var parallelism : List.of("1", "4")) {
+      var result =
+          collectExecutionResults(
+              TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                  .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "" + iterations)
+                  .configurationParameter(SysProps.TESTS_ITERS_PARALLELISM.propertyKey, parallelism)
+                  .configurationParameter(SysProps.TESTS_SEED.propertyKey, "DEADBEEF")
+                  .selectors(selectClass(SimpleTest.class)));
+
+      result
+          .results()
+          .testEvents()
+          .assertStatistics(s -> s.finished(iterations).succeeded(iterations));
+      result
+          .results()
+          .containerEvents()
+          .assertThatEvents()
+          .doNotHave(event(finishedWithFailure()));
+      outputs.add(result.capturedOutput());
+    }
+
+    Assertions.assertThat(outputs.get(1)).hasSize(iterations).isEqualTo(outputs.get(0));
+  }
+
+  @Test
+  void allIterationsHaveTheSameTests() {
+    var iterations = 3;
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "" + iterations)
+                .selectors(selectClass(StructuredTest.class)));
+
+    // One plain test, two parameterized test invocations and a nested test per iteration.
+    result
+        .results()
+        .testEvents()
+        .assertStatistics(s -> s.finished(4 * iterations).succeeded(4 * iterations));
+
+    // Tests have the same unique ids (below the iteration segment) in each iteration.
+    var testIds =
+        result.results().testEvents().started().stream()
+            .map(e -> e.getTestDescriptor().getUniqueId())
+            .collect(
+                Collectors.groupingBy(
+                    id -> id.getSegments().get(1).getValue(),
+                    Collectors.mapping(
+                        id -> id.getSegments().subList(2, id.getSegments().size()),
+                        Collectors.toList())));
+    Assertions.assertThat(testIds).hasSize(iterations);
+    Assertions.assertThat(new HashSet<>(testIds.values())).hasSize(1);
+  }
+
+  @Test
+  void laterIterationsAreDiscoveredLazily() {
+    var iterations = 3;
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "" + iterations)
+                .selectors(selectClass(StructuredTest.class)));
+
+    // Iterations after the first one register their tests right before they execute.
+    var registeredIterations =
+        result.results().allEvents().dynamicallyRegistered().stream()
+            .map(e -> e.getTestDescriptor().getUniqueId().getSegments().get(1).getValue())
+            .distinct()
+            .toList();
+    Assertions.assertThat(registeredIterations).containsExactly("2", "3");
+  }
+
+  @Test
+  void methodSelectorsAreRespectedInAllIterations() {
+    var iterations = 3;
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "" + iterations)
+                .selectors(selectMethod(StructuredTest.class, "plain")));
+
+    result
+        .results()
+        .testEvents()
+        .assertStatistics(s -> s.finished(iterations).succeeded(iterations));
+  }
+
+  @Test
+  void timedIterationsAreLimitedByIterationCount() {
+    var iterations = 4;
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS_DURATION.propertyKey, "PT1H")
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "" + iterations)
+                .selectors(selectClass(SimpleTest.class)));
+
+    result
+        .results()
+        .testEvents()
+        .assertStatistics(s -> s.finished(iterations).succeeded(iterations));
+
+    // Iterations after the first one are created while there is time left.
+    var registeredIterations =
+        result.results().containerEvents().dynamicallyRegistered().stream()
+            .map(e -> e.getTestDescriptor().getUniqueId())
+            .filter(id -> id.getSegments().size() == 2)
+            .map(id -> id.getLastSegment().getValue())
+            .toList();
+    Assertions.assertThat(registeredIterations).containsExactly("2", "3", "4");
+    Assertions.assertThat(summary(result)).containsEntry("iterations", "" + iterations);
+  }
+
+  @Test
+  void timedIterationsStopWhenTheBudgetIsSpent() {
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS_DURATION.propertyKey, "300ms")
+                .selectors(selectClass(SleepingTest.class)));
+
+    // Each iteration takes at least 50ms.
+    var finished = result.results().testEvents().finished().count();
+    Assertions.assertThat(finished).isBetween(1L, 7L);
+    Assertions.assertThat(summary(result))
+        .containsEntry("iterations", "" + finished)
+        .containsKey("iterationsPerSecond");
+  }
+
+  @Test
+  void timedIterationsNotStartedAreSkipped() {
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS_DURATION.propertyKey, "0ms")
+                .selectors(selectClass(SimpleTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(0));
+    Assertions.assertThat(iterationEvents(result.results().containerEvents().skipped()))
+        .containsExactly("1");
+    Assertions.assertThat(skipReasons(result.results().containerEvents().skipped()))
+        .containsOnly("Time budget spent.");
+  }
+
+  @Test
+  void timedIterationsReportFailingSeeds() {
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS_DURATION.propertyKey, "1h")
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "2")
+                .configurationParameter(SysProps.TESTS_SEED.propertyKey, "DEADBEEF")
+                .selectors(selectClass(FailingTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(2).failed(2));
+    Assertions.assertThat(summary(result)).containsEntry("failingSeeds", "DEADBEEF");
+  }
+
+  @Test
+  void timedIterationsHaveDifferentRootSeeds() {
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS_DURATION.propertyKey, "1h")
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "2")
+                .selectors(selectClass(FailingTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(2).failed(2));
+    Assertions.assertThat(summary(result).get("failingSeeds").split(","))
+        .hasSize(2)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void failFastStopsAfterTheFirstFailedIteration() {
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "5")
+                .configurationParameter(SysProps.TESTS_ITERS_FAILFAST.propertyKey, "true")
+                .selectors(selectClass(FailingTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(1).failed(1));
+    // The failed iteration reports its failure, the remaining ones are skipped.
+    Assertions.assertThat(iterationEvents(result.results().containerEvents().failed()))
+        .containsExactly("1");
+    Assertions.assertThat(iterationEvents(result.results().containerEvents().skipped()))
+        .containsExactly("2", "3", "4", "5");
+    Assertions.assertThat(skipReasons(result.results().containerEvents().skipped()))
+        .containsOnly("Failure limit reached.");
+    Assertions.assertThat(summary(result))
+        .containsEntry("iterations", "1")
+        .containsEntry("failureLimitReached", "true");
+  }
+
+  @Test
+  void maxFailuresCountsDistinctFailures() {
+    // The same failure in each iteration is counted once.
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "3")
+                .configurationParameter(SysProps.TESTS_ITERS_MAX_FAILURES.propertyKey, "2")
+                .selectors(selectClass(FailingTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(3).failed(3));
+    Assertions.assertThat(iterationEvents(result.results().containerEvents().failed()))
+        .containsExactly("1", "2", "3");
+    Assertions.assertThat(summary(result))
+        .containsEntry("failedIterations", "3")
+        .containsEntry("distinctFailures", "1")
+        .containsEntry("failureLimitReached", "false");
+
+    // Two different tests fail in the first iteration.
+    result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "3")
+                .configurationParameter(SysProps.TESTS_ITERS_MAX_FAILURES.propertyKey, "2")
+                .selectors(selectClass(TwoFailuresTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.finished(2).failed(2));
+    Assertions.assertThat(iterationEvents(result.results().containerEvents().skipped()))
+        .containsExactly("2", "3");
+    Assertions.assertThat(summary(result))
+        .containsEntry("distinctFailures", "2")
+        .containsEntry("failureLimitReached", "true");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"tests.iters.parallelism=0", "tests.iters.maxfailures=-1"})
+  void invalidConfigurationFailsTheEngineBeforeItStarts(String parameter) {
+    var keyAndValue = parameter.split("=");
+    var result =
+        collectExecutionResults(
+            TestInfra.testKitBuilder(RepeatExecutionTestEngine.ENGINE_ID)
+                .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "2")
+                .configurationParameter(keyAndValue[0], keyAndValue[1])
+                .selectors(selectClass(SimpleTest.class)));
+
+    result.results().testEvents().assertStatistics(s -> s.started(0));
+    result
+        .results()
+        .allEvents()
+        .assertThatEvents()
+        .haveExactly(1, event(engine(), started()))
+        .haveExactly(
+            1,
+            event(
+                engine(),
+                finishedWithFailure(
+                    instanceOf(IllegalArgumentException.class),
+                    message(m -> m.startsWith(keyAndValue[0])))));
+  }
+
+  @Test
+  void failFastCancelsTheWholeLauncherExecution() {
+    var skipped = new ArrayList<String>();
+    var listener =
+        new TestExecutionListener() {
+          @Override
+          public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+            skipped.add(testIdentifier.getUniqueId());
+          }
+        };
+
+    // The reiteration engine executes first, the second engine after it.
+    var secondEngine = new SecondEngine();
+    var launcher =
+        LauncherFactory.create(
+            LauncherConfig.builder()
+                .enableTestEngineAutoRegistration(false)
+                .addTestEngines(new RepeatExecutionTestEngine(), secondEngine)
+                .build());
+    launcher.execute(
+        TestInfra.launcherRequest()
+            .selectors(selectClass(FailingTest.class))
+            .configurationParameter(SysProps.TESTS_ITERS.propertyKey, "2")
+            .configurationParameter(SysProps.TESTS_ITERS_FAILFAST.propertyKey, "true")
+            .forExecution()
+            .cancellationToken(CancellationToken.create())
+            .listeners(listener)
+            .build());
+
+    // The cancellation is launcher-wide: the second engine is reported as skipped, not lost.
+    Assertions.assertThat(secondEngine.executedTests).isZero();
+    Assertions.assertThat(skipped).contains(UniqueId.forEngine(SecondEngine.ENGINE_ID).toString());
+  }
+
+  /** An engine with a single test, honoring the cancellation of the execution. */
+  private static final class SecondEngine implements TestEngine {
+    static final String ENGINE_ID = "second-engine";
+
+    int executedTests;
+
+    @Override
+    public String getId() {
+      return ENGINE_ID;
+    }
+
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+      var engineDescriptor = new EngineDescriptor(uniqueId, "Second engine");
+      engineDescriptor.addChild(
+          new AbstractTestDescriptor(uniqueId.append("test", "test"), "test") {
+            @Override
+            public Type getType() {
+              return Type.TEST;
+            }
+          });
+      return engineDescriptor;
+    }
+
+    @Override
+    public void execute(ExecutionRequest request) {
+      var engineDescriptor = request.getRootTestDescriptor();
+      var listener = request.getEngineExecutionListener();
+      if (request.getCancellationToken().isCancellationRequested()) {
+        listener.executionSkipped(engineDescriptor, "Execution cancelled.");
+        return;
+      }
+
+      listener.executionStarted(engineDescriptor);
+      for (var test : engineDescriptor.getChildren()) {
+        listener.executionStarted(test);
+        executedTests++;
+        listener.executionFinished(test, TestExecutionResult.successful());
+      }
+      listener.executionFinished(engineDescriptor, TestExecutionResult.successful());
+    }
+  }
+
+  /**
+   * @return Returns the iteration numbers of iteration container events.
+   */
+  private static List<String> iterationEvents(Events events) {
+    return events.stream()
+        .map(e -> e.getTestDescriptor().getUniqueId())
+        .filter(id -> id.getSegments().size() == 2)
+        .map(id -> id.getLastSegment().getValue())
+        .toList();
+  }
+
+  /**
+   * @return Returns the reasons of skipped events.
+   */
+  private static List<String> skipReasons(Events events) {
+    return events.stream().map(e -> e.getRequiredPayload(String.class)).toList();
+  }
+
+  private static Map<String, String> summary(ExecutionResult result) {
+    return result.results().allEvents().reportingEntryPublished().stream()
+        .filter(e -> e.getTestDescriptor().getUniqueId().getSegments().size() == 1)
+        .map(e -> e.getRequiredPayload(ReportEntry.class).getKeyValuePairs())
+        .findFirst()
+        .orElseThrow();
+  }
+
   @Test
   void randomnessIsIdenticalForJupiterAndReiteratedTests() {
     List<String> jupiterResults;
@@ -128,6 +517,57 @@ public class F007_TestReiteration {
     Assertions.assertThat(jupiterResults).containsExactlyElementsOf(repeatedExecutionResults);
   }
 
+  @Randomized
+  static class StructuredTest extends IgnoreInStandaloneRuns {
+    @Test
+    void plain(Random random) {
+      random.nextInt();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void parameterized(int value, Random random) {
+      random.nextInt(value);
+    }
+
+    @Nested
+    class Inner {
+      @Test
+      void nested(Random random) {
+        random.nextInt();
+      }
+    }
+  }
+
+  @Randomized
+  static class SleepingTest extends IgnoreInStandaloneRuns {
+    @Test
+    void test() throws InterruptedException {
+      Thread.sleep(50);
+    }
+  }
+
+  @Randomized
+  static class FailingTest extends IgnoreInStandaloneRuns {
+    @Test
+    void test() {
+      throw new AssertionError("Always fails.");
+    }
+  }
+
+  @Randomized
+  static class TwoFailuresTest extends IgnoreInStandaloneRuns {
+    @Test
+    void first() {
+      throw new AssertionError("Always fails.");
+    }
+
+    @Test
+    void second() {
+      throw new IllegalStateException("Always fails.");
+    }
+  }
+
   @Randomized
   static class SimpleTest extends IgnoreInStandaloneRuns {
     @Test
@@ -0,0 +1,171 @@
+package com.carrotsearch.randomizedtesting.tests;
+
+import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
+import java.io.PrintWriter;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Verifies {@link RandomizedContext#current()} and split contexts for child threads. */
+public class F008_CurrentContext {
+  @Nested
+  class TestCurrentContext {
+    @Test
+    public void testAllHooks() {
+      collectExecutionResults(
+              testKitBuilder(T1.class)
+                  .configurationParameter(SysProps.TESTS_RANDOM_ASSERTING.propertyKey, "true"))
+          .results()
+          .allEvents()
+          .assertThatEvents()
+          .doNotHave(event(finishedWithFailure()));
+    }
+
+    @Test
+    public void noContextOutsideOfRandomizedTests() {
+      Assertions.assertThatThrownBy(RandomizedContext::current)
+          .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      public T1(RandomizedContext ctx) {
+        check(ctx);
+      }
+
+      @BeforeAll
+      static void beforeAll(RandomizedContext ctx) {
+        check(ctx);
+      }
+
+      @BeforeEach
+      void beforeEach(RandomizedContext ctx) {
+        check(ctx);
+      }
+
+      @Test
+      void testMethod(RandomizedContext ctx, Random random) {
+        check(ctx);
+        Assertions.assertThat(RandomizedContext.current().getRandom()).isSameAs(random);
+      }
+
+      @AfterEach
+      void afterEach(RandomizedContext ctx) {
+        check(ctx);
+      }
+
+      @AfterAll
+      static void afterAll(RandomizedContext ctx) {
+        check(ctx);
+      }
+
+      private static void check(RandomizedContext ctx) {
+        Assertions.assertThat(RandomizedContext.current()).isSameAs(ctx);
+      }
+
+      @Test
+      void testOtherThreadsHaveNoContext() throws Exception {
+        var ex = new AtomicReference<Exception>();
+        var thread =
+            new Thread(
+                () -> {
+                  try {
+                    RandomizedContext.current();
+                  } catch (Exception e) {
+                    ex.set(e);
+                  }
+                });
+        thread.start();
+        thread.join();
+        Assertions.assertThat(ex.get()).isInstanceOf(IllegalStateException.class);
+      }
+
+      @Test
+      void testSplitContextInChildThread(RandomizedContext ctx) throws Exception {
+        var childContext = new AtomicReference<RandomizedContext>();
+        var ex = new AtomicReference<Throwable>();
+        var thread =
+            new Thread(
+                ctx.withSplitContext(
+                    () -> {
+                      try {
+                        var current = RandomizedContext.current();
+                        current.getRandom().nextLong();
+                        childContext.set(current);
+                      } catch (Throwable t) {
+                        ex.set(t);
+                      }
+                    }));
+        thread.start();
+        thread.join();
+
+        Assertions.assertThat(ex.get()).isNull();
+        Assertions.assertThat(childContext.get()).isNotSameAs(ctx);
+        var parentSeeds = ctx.getSeedChain().seeds();
+        var childSeeds = childContext.get().getSeedChain().seeds();
+        Assertions.assertThat(childSeeds).hasSize(parentSeeds.size() + 1);
+        Assertions.assertThat(childSeeds.subList(0, parentSeeds.size())).isEqualTo(parentSeeds);
+
+        // The context of this thread is not affected.
+        Assertions.assertThat(RandomizedContext.current()).isSameAs(ctx);
+      }
+    }
+  }
+
+  @Nested
+  class TestSplitContextsAreReproducible {
+    @Test
+    public void splitContextsAreReproducible() {
+      var outputs =
+          IntStream.range(0, 3)
+              .mapToObj(
+                  unused ->
+                      collectExecutionResults(
+                              testKitBuilder(T1.class)
+                                  .configurationParameter(
+                                      SysProps.TESTS_SEED.propertyKey, "deadbeef"))
+                          .capturedOutput())
+              .collect(Collectors.toSet());
+      Assertions.assertThat(outputs).hasSize(1);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testMethod(PrintWriter pw, RandomizedContext ctx) throws Exception {
+        var threads =
+            IntStream.range(0, 4)
+                .mapToObj(
+                    i ->
+                        new Thread(
+                            ctx.withSplitContext(
+                                () -> {
+                                  var value = RandomizedContext.current().getRandom().nextLong();
+                                  synchronized (pw) {
+                                    pw.print(i + "=" + value + ",");
+                                  }
+                                })))
+                .toList();
+        // Start in reverse order: the split contexts are assigned when the tasks are created.
+        for (var thread : threads.reversed()) {
+          thread.start();
+          thread.join();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.carrotsearch.randomizedtesting.tests;
+
+import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+
+import com.carrotsearch.randomizedtesting.jupiter.FixSeed;
+import com.carrotsearch.randomizedtesting.jupiter.RandomByteArray;
+import com.carrotsearch.randomizedtesting.jupiter.RandomInt;
+import com.carrotsearch.randomizedtesting.jupiter.RandomString;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import com.carrotsearch.randomizedtesting.jupiter.generators.AsciiAlphanumGenerator;
+import com.carrotsearch.randomizedtesting.jupiter.generators.UnicodeGenerator;
+import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+/** Verifies the injection of parameters annotated with {@link RandomInt} and others. */
+public class F009_RandomParameters {
+  @Nested
+  class TestAnnotatedParameters {
+    @Test
+    public void testAllTypes() {
+      collectExecutionResults(testKitBuilder(T1.class))
+          .results()
+          .allEvents()
+          .assertThatEvents()
+          .doNotHave(event(finishedWithFailure()));
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @BeforeEach
+      void beforeEach(@RandomInt(min = -5, max = 5) int value) {
+        Assertions.assertThat(value).isBetween(-5, 5);
+      }
+
+      @RepeatedTest(10)
+      void ints(
+          @RandomInt(min = 10, max = 20) int value,
+          @RandomInt(min = Integer.MIN_VALUE) Integer boxed) {
+        Assertions.assertThat(value).isBetween(10, 20);
+        Assertions.assertThat(boxed).isNotNull();
+      }
+
+      @Test
+      void bytes(
+          @RandomByteArray(16) byte[] array,
+          @RandomByteArray(100) ByteBuffer heap,
+          @RandomByteArray(value = 1 << 20, direct = true) ByteBuffer direct) {
+        Assertions.assertThat(array).hasSize(16);
+
+        Assertions.assertThat(heap.isDirect()).isFalse();
+        Assertions.assertThat(heap.position()).isZero();
+        Assertions.assertThat(heap.remaining()).isEqualTo(100);
+
+        Assertions.assertThat(direct.isDirect()).isTrue();
+        Assertions.assertThat(direct.position()).isZero();
+        Assertions.assertThat(direct.remaining()).isEqualTo(1 << 20);
+      }
+
+      @RepeatedTest(10)
+      void strings(
+          @RandomString String letters,
+          @RandomString(generator = AsciiAlphanumGenerator.class, min = 5, max = 10)
+              String alphanum,
+          @RandomString(generator = UnicodeGenerator.class, min = 3, max = 3, codePoints = true)
+              String unicode) {
+        Assertions.assertThat(letters).hasSizeBetween(0, 20).matches("[a-zA-Z]*");
+        Assertions.assertThat(alphanum).hasSizeBetween(5, 10).matches("[a-zA-Z0-9]*");
+        Assertions.assertThat(unicode.codePointCount(0, unicode.length())).isEqualTo(3);
+      }
+    }
+  }
+
+  @Nested
+  class TestValuesAreReproducible {
+    @Test
+    public void valuesDependOnTheSeedOnly() {
+      var outputs =
+          IntStream.range(0, 3)
+              .mapToObj(
+                  unused ->
+                      collectExecutionResults(
+                              testKitBuilder(T1.class)
+                                  .configurationParameter(
+                                      SysProps.TESTS_SEED.propertyKey, "deadbeef"))
+                          .capturedOutput())
+              .collect(Collectors.toSet());
+      Assertions.assertThat(outputs).hasSize(1);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void testMethod(
+          PrintWriter pw,
+          @RandomInt int value,
+          @RandomByteArray(value = 10, direct = true) ByteBuffer bytes,
+          @RandomString String string) {
+        var array = new byte[bytes.remaining()];
+        bytes.get(array);
+        pw.print(value + "," + HexFormat.of().formatHex(array) + "," + string);
+      }
+    }
+  }
+
+  @Nested
+  class TestInjectedRandomIsUnaffected {
+    @Test
+    public void parametersDontConsumeTheInjectedRandom() {
+      var output = collectExecutionResults(testKitBuilder(T1.class)).capturedOutput();
+      Assertions.assertThat(output).hasSize(2);
+      Assertions.assertThat(Set.copyOf(output.values())).hasSize(1);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      @FixSeed("cafebabe")
+      void withParameters(
+          PrintWriter pw, Random random, @RandomInt int value, @RandomString String string) {
+        pw.print(random.nextLong());
+      }
+
+      @Test
+      @FixSeed("cafebabe")
+      void withoutParameters(PrintWriter pw, Random random) {
+        pw.print(random.nextLong());
+      }
+    }
+  }
+
+  @Nested
+  class TestInvalidParameters {
+    @Test
+    public void wrongTypesAreRejected() {
+      collectExecutionResults(testKitBuilder(T1.class))
+          .results()
+          .testEvents()
+          .assertThatEvents()
+          .haveExactly(
+              2, event(finishedWithFailure(parameterResolutionFailure("is not applicable"))));
+    }
+
+    @Test
+    public void invalidBoundsAreRejected() {
+      collectExecutionResults(testKitBuilder(T2.class))
+          .results()
+          .testEvents()
+          .assertThatEvents()
+          .haveExactly(1, event(finishedWithFailure(parameterResolutionFailure("Invalid bounds"))));
+    }
+
+    private static Condition<Throwable> parameterResolutionFailure(String messagePart) {
+      return new Condition<>(
+          t ->
+              Stream.iterate(t, Objects::nonNull, Throwable::getCause)
+                  .filter(e -> e instanceof ParameterResolutionException)
+                  .anyMatch(e -> e.getMessage().contains(messagePart)),
+          "parameter resolution failure: " + messagePart);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void intAsLong(@RandomInt long value) {}
+
+      @Test
+      void bytesAsString(@RandomByteArray(10) String value) {}
+    }
+
+    @Randomized
+    static class T2 extends IgnoreInStandaloneRuns {
+      @Test
+      void maxBelowMin(@RandomInt(min = 10, max = 5) int value) {}
+    }
+  }
+}
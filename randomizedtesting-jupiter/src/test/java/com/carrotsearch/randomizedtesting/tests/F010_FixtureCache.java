@@ -0,0 +1,188 @@
+package com.carrotsearch.randomizedtesting.tests;
+
+import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+
+import com.carrotsearch.randomizedtesting.jupiter.FixtureCache;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes;
+import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Verifies {@link FixtureCache}. */
+public class F010_FixtureCache {
+  record Dataset(int length) {}
+
+  static byte[] build(FixtureCache cache, Dataset dataset, AtomicInteger builds) {
+    return cache.computeIfAbsent(
+        "random-bytes-v1",
+        dataset,
+        random -> {
+          builds.incrementAndGet();
+          return RandomBytes.randomBytesOfLength(random, dataset.length());
+        },
+        bytes -> bytes.length);
+  }
+
+  @Nested
+  class TestFixturesAreShared {
+    @Test
+    public void builtOncePerRun() {
+      T1.builds.set(0);
+      collectExecutionResults(testKitBuilder(T1.class))
+          .results()
+          .allEvents()
+          .assertThatEvents()
+          .doNotHave(event(finishedWithFailure()));
+      // One per distinct dataset.
+      Assertions.assertThat(T1.builds.get()).isEqualTo(2);
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      static final AtomicInteger builds = new AtomicInteger();
+
+      private byte[] fixture;
+
+      @BeforeEach
+      void beforeEach(FixtureCache cache) {
+        fixture = build(cache, new Dataset(1024), builds);
+      }
+
+      @Test
+      void test1(FixtureCache cache) {
+        Assertions.assertThat(build(cache, new Dataset(1024), builds)).isSameAs(fixture);
+      }
+
+      @Test
+      void test2() {
+        Assertions.assertThat(fixture).hasSize(1024);
+      }
+
+      @Test
+      void test3(FixtureCache cache) {
+        Assertions.assertThat(build(cache, new Dataset(10), builds)).hasSize(10);
+      }
+    }
+  }
+
+  @Nested
+  class TestFixturesAreBuiltOutsideTheLock {
+    @Test
+    public void otherKeysAreNotBlocked() {
+      collectExecutionResults(testKitBuilder(T1.class))
+          .results()
+          .allEvents()
+          .assertThatEvents()
+          .doNotHave(event(finishedWithFailure()));
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void concurrentRequests(FixtureCache cache) throws Exception {
+        var slowBuilds = new AtomicInteger();
+        var building = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slow = new Dataset(64);
+        Function<Random, byte[]> slowGenerator =
+            random -> {
+              slowBuilds.incrementAndGet();
+              building.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+              return RandomBytes.randomBytesOfLength(random, slow.length());
+            };
+
+        var results = new byte[2][];
+        var threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+          int index = i;
+          threads[i] =
+              new Thread(
+                  () ->
+                      results[index] =
+                          cache.computeIfAbsent(
+                              "slow-bytes-v1", slow, slowGenerator, bytes -> bytes.length));
+        }
+
+        threads[0].start();
+        Assertions.assertThat(building.await(10, TimeUnit.SECONDS)).isTrue();
+        threads[1].start();
+
+        // A different fixture can be built while the slow one is in progress.
+        Assertions.assertThat(build(cache, new Dataset(8), new AtomicInteger())).hasSize(8);
+
+        release.countDown();
+        for (var thread : threads) {
+          thread.join();
+        }
+
+        Assertions.assertThat(slowBuilds.get()).isEqualTo(1);
+        Assertions.assertThat(results[0]).hasSize(64).isSameAs(results[1]);
+      }
+    }
+  }
+
+  @Nested
+  class TestFixturesAreReproducible {
+    @Test
+    public void fixturesDoNotDependOnTheTest() {
+      for (var budget : new String[] {"0", "1m"}) {
+        var outputs =
+            IntStream.range(0, 3)
+                .mapToObj(
+                    unused ->
+                        collectExecutionResults(
+                                testKitBuilder(T1.class)
+                                    .configurationParameter(
+                                        SysProps.TESTS_SEED.propertyKey, "deadbeef")
+                                    .configurationParameter(
+                                        SysProps.TESTS_FIXTURES_BUDGET.propertyKey, budget))
+                            .capturedOutput())
+                .collect(Collectors.toSet());
+        Assertions.assertThat(outputs).hasSize(1);
+
+        // Each test method observes the same fixtures.
+        Assertions.assertThat(new HashSet<>(outputs.iterator().next().values())).hasSize(1);
+      }
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      private static final AtomicInteger builds = new AtomicInteger();
+
+      @Test
+      void test1(PrintWriter pw, FixtureCache cache) {
+        pw.print(HexFormat.of().formatHex(build(cache, new Dataset(16), builds)));
+        pw.print(HexFormat.of().formatHex(build(cache, new Dataset(32), builds)));
+      }
+
+      @Test
+      void test2(PrintWriter pw, FixtureCache cache) {
+        // Request the fixtures in a different order.
+        var second = build(cache, new Dataset(32), builds);
+        var first = build(cache, new Dataset(16), builds);
+        pw.print(HexFormat.of().formatHex(first));
+        pw.print(HexFormat.of().formatHex(second));
+      }
+    }
+  }
+}
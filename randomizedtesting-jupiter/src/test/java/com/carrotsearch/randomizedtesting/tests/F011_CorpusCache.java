@@ -0,0 +1,155 @@
+package com.carrotsearch.randomizedtesting.tests;
+
+import static com.carrotsearch.randomizedtesting.tests.infra.TestInfra.*;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+
+import com.carrotsearch.randomizedtesting.jupiter.CorpusCache;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.SysProps;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes;
+import com.carrotsearch.randomizedtesting.tests.infra.IgnoreInStandaloneRuns;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Verifies {@link CorpusCache}. */
+public class F011_CorpusCache {
+  static final AtomicInteger generated = new AtomicInteger();
+
+  static CorpusCache.Corpus corpus(CorpusCache cache, int megabytes) throws IOException {
+    return cache.computeIfAbsent(
+        "random-bytes",
+        1,
+        megabytes,
+        (random, output) -> {
+          generated.incrementAndGet();
+          for (int i = 0; i < megabytes; i++) {
+            output.write(RandomBytes.randomBytesOfLength(random, 1 << 20));
+          }
+        });
+  }
+
+  static Map<String, String> run(Class<?> testClass, Path dir, String maxSize) {
+    var executionResult =
+        collectExecutionResults(
+            testKitBuilder(testClass)
+                .configurationParameter(SysProps.TESTS_SEED.propertyKey, "deadbeef")
+                .configurationParameter(SysProps.TESTS_CORPUS_DIR.propertyKey, dir.toString())
+                .configurationParameter(SysProps.TESTS_CORPUS_MAX_SIZE.propertyKey, maxSize));
+    executionResult
+        .results()
+        .allEvents()
+        .assertThatEvents()
+        .doNotHave(event(finishedWithFailure()));
+    return executionResult.capturedOutput();
+  }
+
+  @Nested
+  class TestCorporaArePersistent {
+    @TempDir Path dir;
+
+    @BeforeEach
+    void reset() {
+      generated.set(0);
+    }
+
+    @Test
+    public void generatedOncePerSeed() {
+      var first = run(T1.class, dir, "1g");
+      Assertions.assertThat(generated.get()).isEqualTo(1);
+
+      var second = run(T1.class, dir, "1g");
+      Assertions.assertThat(generated.get()).isEqualTo(1);
+      Assertions.assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    public void damagedCorporaAreRegenerated() throws IOException {
+      var first = run(T1.class, dir, "1g");
+      try (var files = Files.newDirectoryStream(dir, "*.bin")) {
+        for (var file : files) {
+          try (var channel = Files.newByteChannel(file, StandardOpenOption.WRITE)) {
+            channel.position(1000).write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+          }
+        }
+      }
+
+      var second = run(T1.class, dir, "1g");
+      Assertions.assertThat(generated.get()).isEqualTo(2);
+      Assertions.assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    public void leastRecentlyUsedCorporaAreEvicted() throws IOException {
+      run(T2.class, dir, "2m");
+      Assertions.assertThat(generated.get()).isEqualTo(2);
+      try (var files = Files.list(dir)) {
+        // Only the second (2MB) corpus is within the limit.
+        Assertions.assertThat(files.filter(p -> p.toString().endsWith(".bin")).toList())
+            .singleElement()
+            .satisfies(p -> Assertions.assertThat(Files.size(p)).isEqualTo(2 << 20));
+      }
+    }
+
+    @Test
+    public void staleTemporaryFilesAreDeleted() throws IOException {
+      var stale = Files.write(dir.resolve("abandoned.bin.tmp"), new byte[10]);
+      Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+      var fresh = Files.write(dir.resolve("in-progress.bin.tmp"), new byte[10]);
+
+      run(T1.class, dir, "1g");
+      Assertions.assertThat(stale).doesNotExist();
+      Assertions.assertThat(fresh).exists();
+    }
+
+    @Test
+    public void temporaryFilesCountTowardTheMaximumSize() throws IOException {
+      Files.write(dir.resolve("in-progress.bin.tmp"), new byte[1 << 20]);
+
+      run(T2.class, dir, "3m");
+      try (var files = Files.list(dir)) {
+        // 1MB + 2MB of corpora and 1MB of temporary files exceed the limit.
+        Assertions.assertThat(files.filter(p -> p.toString().endsWith(".bin")).toList())
+            .singleElement()
+            .satisfies(p -> Assertions.assertThat(Files.size(p)).isEqualTo(2 << 20));
+      }
+    }
+
+    @Randomized
+    static class T1 extends IgnoreInStandaloneRuns {
+      @Test
+      void test1(PrintWriter pw, CorpusCache cache) throws IOException {
+        var buffer = corpus(cache, 1).map();
+        Assertions.assertThat(buffer.isReadOnly()).isTrue();
+        Assertions.assertThat(buffer.remaining()).isEqualTo(1 << 20);
+
+        var bytes = new byte[64];
+        buffer.get(1000, bytes);
+        pw.print(HexFormat.of().formatHex(bytes));
+      }
+    }
+
+    @Randomized
+    static class T2 extends IgnoreInStandaloneRuns {
+      @Test
+      void test1(CorpusCache cache) throws IOException {
+        corpus(cache, 1);
+        corpus(cache, 2);
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.carrotsearch.randomizedtesting.tests.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.carrotsearch.randomizedtesting.jupiter.FixSeed;
+import com.carrotsearch.randomizedtesting.jupiter.RandomizedContext;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.generators.ParallelRandomArrays;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomArrays;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Randomized
+class TestParallelRandomArrays {
+  private static final AtomicReference<long[]> firstFill = new AtomicReference<>();
+  private static final AtomicReference<Object[]> firstGenerated = new AtomicReference<>();
+
+  /** All invocations run with the same seed, so their first call must return the same values. */
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 5})
+  @FixSeed("deadbeef")
+  void testFillIndependentOfParallelism(int parallelism, RandomizedContext ctx) {
+    var rnd = ctx.getRandom();
+    var length = ParallelRandomArrays.CHUNK_SIZE * (1 + rnd.nextInt(5)) + rnd.nextInt(1000);
+    var actual = new long[length];
+    if (parallelism == 0) {
+      ParallelRandomArrays.fill(ctx, actual);
+    } else {
+      var pool = new ForkJoinPool(parallelism);
+      try {
+        ParallelRandomArrays.fill(ctx, actual, pool);
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    firstFill.compareAndSet(null, actual);
+    assertThat(actual).isEqualTo(firstFill.get());
+  }
+
+  /** All invocations run with the same seed, so streams must match arrays from the same calls. */
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  @FixSeed("deadbeef")
+  void testStreamsMatchArrays(boolean streams, RandomizedContext ctx) {
+    var length = ParallelRandomArrays.CHUNK_SIZE * 2 + ctx.getRandom().nextInt(1000);
+
+    int[] ints;
+    long[] longs;
+    double[] doubles;
+    if (streams) {
+      ints = ParallelRandomArrays.ints(ctx, length).toArray();
+      longs = ParallelRandomArrays.longs(ctx, length).toArray();
+      doubles = ParallelRandomArrays.doubles(ctx, length).toArray();
+    } else {
+      ints = new int[length];
+      ParallelRandomArrays.fill(ctx, ints);
+      longs = new long[length];
+      ParallelRandomArrays.fill(ctx, longs);
+      doubles = new double[length];
+      ParallelRandomArrays.fill(ctx, doubles);
+    }
+    assertThat(DoubleStream.of(doubles).boxed())
+        .allSatisfy(v -> assertThat(v).isGreaterThanOrEqualTo(0d).isLessThan(1d));
+
+    firstGenerated.compareAndSet(null, new Object[] {ints, longs, doubles});
+    assertThat(firstGenerated.get()).containsExactly(ints, longs, doubles);
+  }
+
+  @Test
+  void testConsecutiveCallsDiffer(RandomizedContext ctx) {
+    var first = new long[ParallelRandomArrays.CHUNK_SIZE];
+    ParallelRandomArrays.fill(ctx, first);
+    var second = new long[ParallelRandomArrays.CHUNK_SIZE];
+    ParallelRandomArrays.fill(ctx, second);
+    assertThat(first).isNotEqualTo(second);
+    assertThat(ParallelRandomArrays.longs(ctx, first.length).toArray())
+        .isNotEqualTo(first)
+        .isNotEqualTo(second);
+  }
+
+  @Test
+  void testChunksDifferFromSplitRandoms(RandomizedContext ctx) {
+    var chunk = new long[ParallelRandomArrays.CHUNK_SIZE];
+    ParallelRandomArrays.fill(ctx, chunk);
+    for (int i = 0; i < 3; i++) {
+      var split = new long[chunk.length];
+      RandomArrays.fill(ctx.splitRandom(), split);
+      assertThat(split).isNotEqualTo(chunk);
+    }
+  }
+
+  @Test
+  void testChunksDiffer(RandomizedContext ctx) {
+    var values = new long[ParallelRandomArrays.CHUNK_SIZE * 2];
+    ParallelRandomArrays.fill(ctx, values);
+    var first = Arrays.copyOfRange(values, 0, ParallelRandomArrays.CHUNK_SIZE);
+    var second = Arrays.copyOfRange(values, ParallelRandomArrays.CHUNK_SIZE, values.length);
+    assertThat(first).isNotEqualTo(second);
+  }
+
+  @Test
+  void testEmpty(RandomizedContext ctx) {
+    ParallelRandomArrays.fill(ctx, new float[0]);
+    assertThat(ParallelRandomArrays.ints(ctx, 0).count()).isZero();
+  }
+}
@@ -0,0 +1,78 @@
+package com.carrotsearch.randomizedtesting.tests.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.generators.PhiloxRandom;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+@Randomized
+class TestPhiloxRandom {
+  /** Known-answer vectors of Philox4x32-10 (the first one is from the Random123 distribution). */
+  @Test
+  void testKnownAnswers() {
+    var zero = new PhiloxRandom(0L);
+    assertThat(zero.valueAt(0)).isEqualTo(0xe169c58d_6627e8d5L);
+    assertThat(zero.valueAt(1)).isEqualTo(0x9b00dbd8_bc57ac4cL);
+
+    var ones = new PhiloxRandom(0xffffffff_ffffffffL);
+    assertThat(ones.valueAt(0x2468)).isEqualTo(0x6e65aad6_86ba369fL);
+    assertThat(ones.valueAt(0x2469)).isEqualTo(0x95a574ec_54212d9aL);
+  }
+
+  @RepeatedTest(5)
+  void testValueAtMatchesSequentialDraws(Random rnd) {
+    var philox = new PhiloxRandom(rnd.nextLong());
+    for (int i = 0; i < 100; i++) {
+      assertThat(philox.position()).isEqualTo(i);
+      assertThat(philox.nextLong()).isEqualTo(philox.valueAt(i));
+    }
+
+    long index = rnd.nextLong() >>> 1;
+    philox.seek(index);
+    assertThat(philox.nextLong()).isEqualTo(philox.valueAt(index));
+    assertThat(philox.nextLong()).isEqualTo(philox.valueAt(index + 1));
+  }
+
+  @RepeatedTest(5)
+  void testFillMatchesValueAt(Random rnd) {
+    var philox = new PhiloxRandom(rnd.nextLong());
+    var target = new long[rnd.nextInt(100)];
+    long firstIndex = rnd.nextInt(1000);
+    philox.fill(target, firstIndex);
+    for (int i = 0; i < target.length; i++) {
+      assertThat(target[i]).isEqualTo(philox.valueAt(firstIndex + i));
+    }
+  }
+
+  @RepeatedTest(5)
+  void testParallelFillMatchesSequential(Random rnd) {
+    var philox = new PhiloxRandom(rnd.nextLong());
+    var length = 100_000 + rnd.nextInt(1000);
+    long firstIndex = rnd.nextInt(3);
+
+    var sequential = new long[length];
+    philox.fill(sequential, firstIndex);
+
+    for (int parallelism : new int[] {1, 2, 7}) {
+      var pool = new ForkJoinPool(parallelism);
+      try {
+        var parallel = new long[length];
+        philox.parallelFill(parallel, firstIndex, pool);
+        assertThat(parallel).isEqualTo(sequential);
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Test
+  void testSetSeedIsForbidden() {
+    var philox = new PhiloxRandom(42L);
+    assertThrows(RuntimeException.class, () -> philox.setSeed(1));
+  }
+}
@@ -0,0 +1,78 @@
+package com.carrotsearch.randomizedtesting.tests.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomArrays;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+@Randomized
+class TestRandomArrays {
+  @RepeatedTest(10)
+  void testFillMatchesPerElementDraws(Random rnd) {
+    var seed = rnd.nextLong();
+    var length = RandomNumbers.randomIntInRange(rnd, 0, 1000);
+    var from = RandomNumbers.randomIntInRange(rnd, 0, length);
+    var to = RandomNumbers.randomIntInRange(rnd, from, length);
+
+    for (var factory : RandomInstanceFactory.values()) {
+      var bulk = factory.get().apply(seed);
+      var single = factory.get().apply(seed);
+
+      var ints = new int[length];
+      RandomArrays.fill(bulk, ints, from, to);
+      for (int i = from; i < to; i++) {
+        assertThat(ints[i]).isEqualTo(single.nextInt());
+      }
+
+      var longs = new long[length];
+      RandomArrays.fill(bulk, longs);
+      for (long v : longs) {
+        assertThat(v).isEqualTo(single.nextLong());
+      }
+
+      var doubles = new double[length];
+      RandomArrays.fill(bulk, doubles);
+      for (double v : doubles) {
+        assertThat(v).isEqualTo(single.nextDouble());
+      }
+
+      var floats = new float[length];
+      RandomArrays.fill(bulk, floats);
+      for (float v : floats) {
+        assertThat(v).isEqualTo(single.nextFloat());
+      }
+
+      RandomArrays.fillInRange(bulk, ints, -10, 1000);
+      for (int v : ints) {
+        assertThat(v).isEqualTo(RandomNumbers.randomIntInRange(single, -10, 1000));
+      }
+
+      RandomArrays.fillInRange(bulk, longs, Long.MIN_VALUE, 0);
+      for (long v : longs) {
+        assertThat(v).isEqualTo(RandomNumbers.randomLongInRange(single, Long.MIN_VALUE, 0));
+      }
+    }
+  }
+
+  @Test
+  void testValuesInRange(Random rnd) {
+    var ints = new int[1000];
+    RandomArrays.fillInRange(rnd, ints, 5, 10);
+    assertThat(IntStream.of(ints).boxed()).allSatisfy(v -> assertThat(v).isBetween(5, 10));
+
+    RandomArrays.fillInRange(rnd, ints, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertThat(IntStream.of(ints).distinct().count()).isGreaterThan(1);
+
+    var doubles = new double[1000];
+    RandomArrays.fill(rnd, doubles);
+    assertThat(DoubleStream.of(doubles).boxed())
+        .allSatisfy(v -> assertThat(v).isGreaterThanOrEqualTo(0d).isLessThan(1d));
+  }
+}
@@ -4,10 +4,15 @@ import static com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes.
 import static com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes.randomBytesOfLengthBetween;
 import static com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers.randomIntInRange;
 
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
 import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomBytes;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
 import java.util.Random;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 @Randomized
 class TestRandomBytes {
@@ -25,4 +30,52 @@ class TestRandomBytes {
     byte[] bytes = randomBytesOfLengthBetween(rnd, min, max);
     Assertions.assertThat(bytes.length).isBetween(min, max);
   }
+
+  @RepeatedTest(100)
+  void testDirectBytesOfLength(Random rnd) {
+    int min = randomIntInRange(rnd, 0, 100);
+    int max = min + randomIntInRange(rnd, 0, 10);
+
+    ByteBuffer buffer = RandomBytes.randomDirectBytesOfLengthBetween(rnd, min, max);
+    Assertions.assertThat(buffer.isDirect()).isTrue();
+    Assertions.assertThat(buffer.position()).isZero();
+    Assertions.assertThat(buffer.remaining()).isBetween(min, max);
+  }
+
+  @RepeatedTest(100)
+  void testBufferFillMatchesNextBytes(Random rnd) {
+    var seed = rnd.nextLong();
+    var len = randomIntInRange(rnd, 0, 100);
+    var offset = randomIntInRange(rnd, 0, 10);
+
+    var expected = new byte[len];
+    RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(seed).nextBytes(expected);
+
+    var buffer =
+        rnd.nextBoolean()
+            ? ByteBuffer.allocateDirect(offset + len)
+            : ByteBuffer.allocate(offset + len);
+    buffer.position(offset);
+    RandomBytes.fill(RandomInstanceFactory.XOROSHIRO_128_PLUS.get().apply(seed), buffer);
+    Assertions.assertThat(buffer.position()).isEqualTo(buffer.limit());
+
+    var actual = new byte[len];
+    buffer.get(offset, actual);
+    Assertions.assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void testAllBytePositionsHaveFullEntropy(Random rnd) {
+    var bytes = new byte[8 * 1000];
+    rnd.nextBytes(bytes);
+
+    // Every byte position within a 64-bit word should take many different values.
+    for (int pos = 0; pos < 8; pos++) {
+      var distinct = new HashSet<Byte>();
+      for (int i = pos; i < bytes.length; i += 8) {
+        distinct.add(bytes[i]);
+      }
+      Assertions.assertThat(distinct).as("byte position " + pos).hasSizeGreaterThan(100);
+    }
+  }
 }
@@ -0,0 +1,122 @@
+package com.carrotsearch.randomizedtesting.tests.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceFactory;
+import com.carrotsearch.randomizedtesting.jupiter.Randomized;
+import com.carrotsearch.randomizedtesting.jupiter.generators.RandomNumbers;
+import java.util.Random;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+@Randomized
+class TestRandomNumbers {
+  @RepeatedTest(10)
+  void testNextLongWithinBound(Random rnd) {
+    for (long n : new long[] {1, 2, 3, 1L << 32, (1L << 62) + 1, Long.MAX_VALUE, rnd.nextLong()}) {
+      var bound = n <= 0 ? 7 : n;
+      for (int i = 0; i < 100; i++) {
+        assertThat(RandomNumbers.nextLong(rnd, bound)).isBetween(0L, bound - 1);
+      }
+    }
+  }
+
+  @Test
+  void testNextLongRejectsNonPositiveBounds(Random rnd) {
+    assertThrows(IllegalArgumentException.class, () -> RandomNumbers.nextLong(rnd, 0));
+    assertThrows(IllegalArgumentException.class, () -> RandomNumbers.nextLong(rnd, -1));
+  }
+
+  @Test
+  void testNextLongCoversSmallRanges(Random rnd) {
+    var seen = new boolean[5];
+    for (int i = 0; i < 1000; i++) {
+      seen[(int) RandomNumbers.nextLong(rnd, seen.length)] = true;
+    }
+    assertThat(seen).containsOnly(true);
+  }
+
+  @RepeatedTest(10)
+  void testBoundedDrawsAreDeterministic(Random rnd) {
+    var seed = rnd.nextLong();
+    for (var factory : RandomInstanceFactory.values()) {
+      var r1 = factory.get().apply(seed);
+      var r2 = factory.get().apply(seed);
+      for (int i = 0; i < 100; i++) {
+        int bound = 1 + (i % 2 == 0 ? (1 << (i % 31)) - 1 : rnd.nextInt(Integer.MAX_VALUE));
+        int v = r1.nextInt(bound);
+        assertThat(v).isBetween(0, bound - 1).isEqualTo(r2.nextInt(bound));
+        assertThat(r1.nextLong(bound)).isEqualTo(r2.nextLong(bound));
+      }
+    }
+  }
+
+  @Test
+  void testIntInRange(Random rnd) {
+    assertThat(RandomNumbers.randomIntInRange(rnd, 5, 5)).isEqualTo(5);
+    for (int i = 0; i < 100; i++) {
+      assertThat(RandomNumbers.randomIntInRange(rnd, -10, 10)).isBetween(-10, 10);
+      assertThat(RandomNumbers.randomIntInRange(rnd, Integer.MIN_VALUE, Integer.MAX_VALUE))
+          .isBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+  }
+
+  @RepeatedTest(5)
+  void testGaussianAndExponentialDrawsAreDeterministic(Random rnd) {
+    var seed = rnd.nextLong();
+    for (var factory : RandomInstanceFactory.values()) {
+      var r1 = factory.get().apply(seed);
+      var r2 = factory.get().apply(seed);
+      for (int i = 0; i < 1000; i++) {
+        assertThat(r1.nextGaussian()).isEqualTo(r2.nextGaussian());
+        assertThat(r1.nextExponential()).isEqualTo(r2.nextExponential());
+      }
+    }
+  }
+
+  @Test
+  void testGaussianAndExponentialDistributions(Random rnd) {
+    var draws = 100_000;
+    for (var factory : RandomInstanceFactory.values()) {
+      var r = factory.get().apply(rnd.nextLong());
+
+      var gaussian = new double[draws];
+      var exponential = new double[draws];
+      for (int i = 0; i < draws; i++) {
+        gaussian[i] = r.nextGaussian();
+        exponential[i] = r.nextExponential();
+      }
+
+      assertThat(mean(gaussian)).as("gaussian mean of %s", factory).isCloseTo(0, within(0.02));
+      assertThat(variance(gaussian))
+          .as("gaussian variance of %s", factory)
+          .isCloseTo(1, within(0.03));
+      assertThat(exponential).as("exponential draws of %s", factory).allMatch(v -> v >= 0);
+      assertThat(mean(exponential))
+          .as("exponential mean of %s", factory)
+          .isCloseTo(1, within(0.02));
+      assertThat(variance(exponential))
+          .as("exponential variance of %s", factory)
+          .isCloseTo(1, within(0.05));
+    }
+  }
+
+  private static double mean(double[] values) {
+    double sum = 0;
+    for (double v : values) {
+      sum += v;
+    }
+    return sum / values.length;
+  }
+
+  private static double variance(double[] values) {
+    double mean = mean(values);
+    double sum = 0;
+    for (double v : values) {
+      sum += (v - mean) * (v - mean);
+    }
+    return sum / (values.length - 1);
+  }
+}
@@ -0,0 +1,26 @@
+package com.carrotsearch.randomizedtesting.tests.infra;
+
+import com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+/** A {@link RandomInstanceProvider} discovered via the service loader (see module-info). */
+public class CustomRandomProvider implements RandomInstanceProvider {
+  public static final String NAME = "custom_test_random";
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public LongFunction<Random> get() {
+    return CustomRandom::new;
+  }
+
+  public static final class CustomRandom extends Random {
+    CustomRandom(long seed) {
+      super(seed);
+    }
+  }
+}
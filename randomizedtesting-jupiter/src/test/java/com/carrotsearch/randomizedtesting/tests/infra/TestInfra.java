@@ -3,6 +3,7 @@ package com.carrotsearch.randomizedtesting.tests.infra;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 
 import java.util.Map;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
 
@@ -30,6 +31,17 @@ public final class TestInfra {
             IgnoreInStandaloneRuns.EnabledIfConfigParaPresent.PARAM_NAME, "true");
   }
 
+  /**
+   * @return Returns a launcher request builder (for runs involving multiple engines) with nested
+   *     test classes enabled.
+   */
+  public static LauncherDiscoveryRequestBuilder launcherRequest() {
+    OutputCaptureExtension.drain();
+    return LauncherDiscoveryRequestBuilder.request()
+        .configurationParameter(
+            IgnoreInStandaloneRuns.EnabledIfConfigParaPresent.PARAM_NAME, "true");
+  }
+
   public static EngineTestKit.Builder testKitBuilder(String engineId) {
     OutputCaptureExtension.drain();
     return EngineTestKit.engine(engineId)
@@ -3,6 +3,7 @@ module com.carrotsearch.randomizedtesting.tests {
   requires org.junit.jupiter.params;
   requires org.junit.platform.testkit;
   requires org.junit.platform.engine;
+  requires org.junit.platform.launcher;
   requires java.logging;
   requires com.carrotsearch.randomizedtesting;
   requires net.bytebuddy;
@@ -13,4 +14,7 @@ module com.carrotsearch.randomizedtesting.tests {
   opens com.carrotsearch.randomizedtesting.tests.infra;
   opens com.carrotsearch.randomizedtesting.tests.experiments;
   opens com.carrotsearch.randomizedtesting.tests.generators;
+
+  provides com.carrotsearch.randomizedtesting.jupiter.RandomInstanceProvider with
+      com.carrotsearch.randomizedtesting.tests.infra.CustomRandomProvider;
 }